@@ -0,0 +1,56 @@
+package com.university.grade.benchmark;
+
+import com.university.grade.dto.GradeDetailResponse;
+import com.university.grade.entity.Course;
+import com.university.grade.entity.Enrollment;
+import com.university.grade.entity.Grade;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 공통 데이터. 실제 학기 성적과 비슷한 크기/모양의 엔티티와 DTO를 만든다.
+ */
+final class BenchmarkData {
+    static final String SEMESTER = "2024-1";
+    private static final String[] LETTERS = {"A+", "A0", "B+", "B0", "C+", "C0", "D+", "F"};
+
+    private BenchmarkData() {
+    }
+
+    static List<Grade> grades(int courses) {
+        List<Grade> grades = new ArrayList<>(courses);
+        for (int i = 0; i < courses; i++) {
+            Course course = Course.builder()
+                    .courseId((long) i)
+                    .courseCode("CSE" + (1000 + i))
+                    .courseName("전공과목 " + i)
+                    .credit(3)
+                    .semester(SEMESTER)
+                    .build();
+            Enrollment enrollment = Enrollment.builder()
+                    .enrollmentId(10_000L + i)
+                    .course(course)
+                    .semester(SEMESTER)
+                    .build();
+            grades.add(Grade.builder()
+                    .gradeId(20_000L + i)
+                    .enrollment(enrollment)
+                    .score(BigDecimal.valueOf(70 + (i * 7) % 30))
+                    .gradeLetter(LETTERS[i % LETTERS.length])
+                    .isFinalized(true)
+                    .build());
+        }
+        return grades;
+    }
+
+    static List<GradeDetailResponse> details(int courses) {
+        List<GradeDetailResponse> details = new ArrayList<>(courses);
+        for (int i = 0; i < courses; i++) {
+            details.add(new GradeDetailResponse(10_000L + i, "CSE" + (1000 + i), "전공과목 " + i, 3,
+                    LETTERS[i % LETTERS.length], BigDecimal.valueOf(70 + (i * 7) % 30), true));
+        }
+        return details;
+    }
+}
@@ -0,0 +1,59 @@
+package com.university.grade.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "studentId:semester" 캐시 키 생성 비용.
+ * spel: @Cacheable(key = "#studentId + ':' + #semester")가 호출마다 하는 일 (파싱된 식 재사용, 컨텍스트는 매번 생성),
+ * concat: 서비스 코드에서 직접 만드는 키 (single-flight, 부정 캐시 등).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheKeyBenchmark {
+    private static final int STUDENTS = 50_000;
+
+    Expression keyExpression;
+    long counter;
+
+    @Setup
+    public void setUp() {
+        keyExpression = new SpelExpressionParser().parseExpression("#studentId + ':' + #semester");
+    }
+
+    private Long nextStudentId() {
+        // 캐시된 Long 범위(-128~127)를 벗어나도록 실제 학번 범위의 값을 사용
+        counter = (counter + 1) % STUDENTS;
+        return 20_000_000L + counter;
+    }
+
+    @Benchmark
+    public Object spel() {
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        context.setVariable("studentId", nextStudentId());
+        context.setVariable("semester", BenchmarkData.SEMESTER);
+        return keyExpression.getValue(context);
+    }
+
+    @Benchmark
+    public String concat() {
+        return nextStudentId() + ":" + BenchmarkData.SEMESTER;
+    }
+}
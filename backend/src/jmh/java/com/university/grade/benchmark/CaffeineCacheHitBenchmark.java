@@ -0,0 +1,111 @@
+package com.university.grade.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.grade.config.CacheConfig;
+import com.university.grade.config.GradeCacheProperties;
+import com.university.grade.dto.GradeDetailResponse;
+import com.university.grade.dto.GradeSummaryResponse;
+import com.university.grade.service.GradeQueryService;
+import com.university.grade.service.GradeVersionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CacheConfig가 만든 Caffeine 캐시의 적중 경로 (Spring Cache.get -> CaffeineCache.lookup -> getIfPresent).
+ * application.yml의 grade.cache 설정(크기, 가중치, TTL, refresh-ahead, recordStats)을 그대로 사용하며 L2는 끈다.
+ * 여러 스레드에서의 경합은 -Djmh.args="-t 4"로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CaffeineCacheHitBenchmark {
+    private static final int STUDENTS = 10_000;
+
+    Cache gradeList;
+    Cache gradeSummary;
+    com.github.benmanes.caffeine.cache.Cache<Object, Object> gradeListNative;
+    String[] keys;
+
+    @Setup
+    public void setUp() throws IOException {
+        StandardEnvironment environment = new StandardEnvironment();
+        new YamlPropertySourceLoader().load("application", new ClassPathResource("application.yml"))
+                .forEach(environment.getPropertySources()::addLast);
+        GradeCacheProperties properties = Binder.get(environment)
+                .bind("grade.cache", GradeCacheProperties.class)
+                .orElseGet(GradeCacheProperties::new);
+
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        CacheManager cacheManager = new CacheConfig().cacheManager(properties,
+                beans.getBeanProvider(GradeQueryService.class),
+                beans.getBeanProvider(GradeVersionService.class),
+                beans.getBeanProvider(RedisConnectionFactory.class),
+                new ObjectMapper(),
+                new SimpleMeterRegistry());
+        gradeList = cacheManager.getCache("gradeList");
+        gradeSummary = cacheManager.getCache("gradeSummary");
+        gradeListNative = ((CaffeineCache) gradeList).getNativeCache();
+
+        List<GradeDetailResponse> details = BenchmarkData.details(6);
+        GradeSummaryResponse summary = GradeSummaryResponse.builder()
+                .semester(BenchmarkData.SEMESTER)
+                .gpa(new BigDecimal("3.85"))
+                .totalCredits(18)
+                .build();
+        keys = new String[STUDENTS];
+        for (int i = 0; i < STUDENTS; i++) {
+            keys[i] = (20_000_000L + i) + ":" + BenchmarkData.SEMESTER;
+            gradeList.put(keys[i], details);
+            gradeSummary.put(keys[i], summary);
+        }
+        if (gradeList.get(keys[0]) == null || gradeSummary.get(keys[STUDENTS - 1]) == null) {
+            throw new IllegalStateException("grade.cache 크기가 벤치마크 학생 수(" + STUDENTS + ")보다 작습니다");
+        }
+    }
+
+    private String randomKey() {
+        return keys[ThreadLocalRandom.current().nextInt(STUDENTS)];
+    }
+
+    @Benchmark
+    public Object gradeListHit() {
+        return gradeList.get(randomKey());
+    }
+
+    @Benchmark
+    public Object gradeSummaryHit() {
+        return gradeSummary.get(randomKey());
+    }
+
+    @Benchmark
+    public Object gradeListNativeHit() {
+        return gradeListNative.getIfPresent(randomKey());
+    }
+}
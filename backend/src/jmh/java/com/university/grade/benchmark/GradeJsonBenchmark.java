@@ -0,0 +1,67 @@
+package com.university.grade.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.grade.dto.GradeDetailResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GradeDetailResponse 목록의 Jackson 직렬화/역직렬화 비용.
+ * serialize: /api/v1/grades/list 응답 본문과 L2/응답 캐시 저장,
+ * deserialize: 읽기 모델(GRADE_READ_MODEL.grades_json)과 L2 캐시 적중 시 복원.
+ * ObjectMapper는 Spring Boot 기본 설정과 같은 Jackson2ObjectMapperBuilder로 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradeJsonBenchmark {
+    private static final TypeReference<List<GradeDetailResponse>> GRADE_LIST_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"6", "12", "40"})
+    int courses;
+
+    ObjectMapper objectMapper;
+    List<GradeDetailResponse> details;
+    byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        details = BenchmarkData.details(courses);
+        json = objectMapper.writeValueAsBytes(details);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(details);
+    }
+
+    @Benchmark
+    public String serializeToString() throws IOException {
+        return objectMapper.writeValueAsString(details);
+    }
+
+    @Benchmark
+    public List<GradeDetailResponse> deserialize() throws IOException {
+        return objectMapper.readValue(json, GRADE_LIST_TYPE);
+    }
+}
@@ -0,0 +1,66 @@
+package com.university.grade.benchmark;
+
+import com.university.grade.dto.GradeDetailResponse;
+import com.university.grade.entity.Course;
+import com.university.grade.entity.Enrollment;
+import com.university.grade.entity.Grade;
+import com.university.grade.service.GradeInquiryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getGradeList 캐시 미스 시의 엔티티 -> GradeDetailResponse 변환 비용.
+ * builder: 예열/일괄 적재 경로(GradeInquiryService.toDetailResponse),
+ * constructor: JPQL 프로젝션 경로(Hibernate가 생성자를 직접 호출).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradeMappingBenchmark {
+
+    @Param({"6", "12", "40"})
+    int courses;
+
+    List<Grade> grades;
+
+    @Setup
+    public void setUp() {
+        grades = BenchmarkData.grades(courses);
+    }
+
+    @Benchmark
+    public List<GradeDetailResponse> builder() {
+        return grades.stream()
+                .map(GradeInquiryService::toDetailResponse)
+                .toList();
+    }
+
+    @Benchmark
+    public List<GradeDetailResponse> constructor() {
+        List<GradeDetailResponse> result = new ArrayList<>(grades.size());
+        for (Grade grade : grades) {
+            Enrollment enrollment = grade.getEnrollment();
+            Course course = enrollment.getCourse();
+            result.add(new GradeDetailResponse(enrollment.getEnrollmentId(), course.getCourseCode(),
+                    course.getCourseName(), course.getCredit(), grade.getGradeLetter(), grade.getScore(),
+                    grade.getIsFinalized()));
+        }
+        return result;
+    }
+}
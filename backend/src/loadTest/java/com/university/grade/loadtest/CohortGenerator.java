@@ -0,0 +1,299 @@
+package com.university.grade.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트용 학생 코호트를 DB에 적재한다.
+ * USERS/STUDENTS, 학기별 COURSES/ENROLLMENTS/GRADES/GRADE_SUMMARY, GRADE_RELEASE_POLICY를 JDBC 배치 INSERT로 채운다
+ * (URL에 rewriteBatchedStatements=true 필요). 테이블은 애플리케이션(ddl-auto)이 만든 것을 사용한다.
+ * ID는 1부터 직접 지정하므로 같은 설정이면 항상 같은 데이터가 만들어진다.
+ *
+ * <pre>
+ * ./gradlew releaseDayLoadTest -Dloadtest.students=50000 -Dloadtest.reseed=true
+ * </pre>
+ * 비밀번호 해시는 한 번만 계산하여 모든 사용자가 공유한다 (로그인 시 BCrypt 검증 비용은 해시마다 같음).
+ */
+public class CohortGenerator {
+    public static final String LOGIN_ID_PREFIX = "9";
+    public static final String PASSWORD = "password123";
+
+    private static final String[] LETTERS = {"A+", "A0", "B+", "B0", "C+", "C0", "D+", "D0", "F"};
+    private static final double[] POINTS = {4.5, 4.0, 3.5, 3.0, 2.5, 2.0, 1.5, 1.0, 0.0};
+    private static final int[] CUTOFFS = {95, 90, 85, 80, 75, 70, 65, 60, 0};
+    private static final int COURSES_PER_SEMESTER = 200;
+    private static final int CREDIT = 3;
+    // 생성 테이블 (자식 테이블부터 비운다)
+    private static final List<String> TABLES = List.of("GRADE_OBJECTIONS", "GRADE_READ_MODEL", "GRADES",
+            "GRADE_SUMMARY", "ENROLLMENTS", "COURSES", "STUDENTS", "USERS", "GRADE_RELEASE_POLICY");
+
+    private final int students;
+    private final List<String> semesters;
+    private final int coursesPerStudent;
+    private final int bcryptCost;
+    private final int batchSize;
+
+    public CohortGenerator(int students, int semesterCount, int coursesPerStudent, int bcryptCost, int batchSize) {
+        this.students = students;
+        this.semesters = semesters(semesterCount);
+        this.coursesPerStudent = Math.min(coursesPerStudent, COURSES_PER_SEMESTER);
+        this.bcryptCost = bcryptCost;
+        this.batchSize = batchSize;
+    }
+
+    public static CohortGenerator fromSystemProperties() {
+        return new CohortGenerator(
+                Integer.getInteger("loadtest.students", 50_000),
+                Integer.getInteger("loadtest.semesters", 4),
+                Integer.getInteger("loadtest.coursesPerStudent", 6),
+                Integer.getInteger("loadtest.bcryptCost", 10),
+                Integer.getInteger("loadtest.batchSize", 1000));
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("loadtest.db.url", ReleaseDayLoadTest.DEFAULT_DB_URL);
+        try (Connection connection = DriverManager.getConnection(url,
+                System.getProperty("loadtest.db.username", "root"),
+                System.getProperty("loadtest.db.password", "root"))) {
+            fromSystemProperties().seed(connection);
+        }
+    }
+
+    public int getStudents() {
+        return students;
+    }
+
+    public List<String> getSemesters() {
+        return semesters;
+    }
+
+    public static String loginId(int studentIndex) {
+        return LOGIN_ID_PREFIX + String.format("%07d", studentIndex);
+    }
+
+    /**
+     * 이미 같은 규모로 적재되어 있으면 true.
+     */
+    public boolean isSeeded(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM USERS WHERE login_id LIKE '" + LOGIN_ID_PREFIX + "%'")) {
+            return rs.next() && rs.getLong(1) >= students;
+        }
+    }
+
+    public void seed(Connection connection) throws SQLException {
+        long started = System.nanoTime();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            truncate(connection);
+            LocalDateTime now = LocalDateTime.now();
+            seedUsersAndStudents(connection, now);
+            seedCourses(connection, now);
+            seedEnrollmentsAndGrades(connection, now.minusDays(1));
+            seedReleasePolicies(connection, now);
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        System.out.printf("seeded %d students x %d semesters x %d courses in %.1fs%n",
+                students, semesters.size(), coursesPerStudent, (System.nanoTime() - started) / 1e9);
+    }
+
+    private void truncate(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+            for (String table : TABLES) {
+                statement.execute("TRUNCATE TABLE " + table);
+            }
+            statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+        }
+        connection.commit();
+    }
+
+    private void seedUsersAndStudents(Connection connection, LocalDateTime now) throws SQLException {
+        String hash = new BCryptPasswordEncoder(bcryptCost).encode(PASSWORD);
+        Timestamp createdAt = Timestamp.valueOf(now);
+        try (PreparedStatement users = connection.prepareStatement(
+                "INSERT INTO USERS (user_id, login_id, password_hash, role, created_at) VALUES (?, ?, ?, 'ROLE_STUDENT', ?)");
+             PreparedStatement studentRows = connection.prepareStatement(
+                     "INSERT INTO STUDENTS (student_id, user_id, student_number, name, department) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= students; i++) {
+                users.setLong(1, i);
+                users.setString(2, loginId(i));
+                users.setString(3, hash);
+                users.setTimestamp(4, createdAt);
+                users.addBatch();
+
+                studentRows.setLong(1, i);
+                studentRows.setLong(2, i);
+                studentRows.setString(3, loginId(i));
+                studentRows.setString(4, "학생" + i);
+                studentRows.setString(5, "학과" + (i % 20));
+                studentRows.addBatch();
+
+                if (i % batchSize == 0 || i == students) {
+                    users.executeBatch();
+                    studentRows.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+    }
+
+    private void seedCourses(Connection connection, LocalDateTime now) throws SQLException {
+        try (PreparedStatement courses = connection.prepareStatement(
+                "INSERT INTO COURSES (course_id, course_code, course_name, credit, semester, updated_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int s = 0; s < semesters.size(); s++) {
+                for (int c = 0; c < COURSES_PER_SEMESTER; c++) {
+                    courses.setLong(1, courseId(s, c));
+                    courses.setString(2, "LT" + semesters.get(s).replace("-", "") + String.format("%03d", c));
+                    courses.setString(3, "과목 " + c);
+                    courses.setInt(4, CREDIT);
+                    courses.setString(5, semesters.get(s));
+                    courses.setTimestamp(6, Timestamp.valueOf(now));
+                    courses.addBatch();
+                }
+            }
+            courses.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private void seedEnrollmentsAndGrades(Connection connection, LocalDateTime updatedAt) throws SQLException {
+        Timestamp timestamp = Timestamp.valueOf(updatedAt);
+        long enrollmentId = 0;
+        int pending = 0;
+        try (PreparedStatement enrollments = connection.prepareStatement(
+                "INSERT INTO ENROLLMENTS (enrollment_id, student_id, course_id, semester, updated_at) VALUES (?, ?, ?, ?, ?)");
+             PreparedStatement grades = connection.prepareStatement(
+                     "INSERT INTO GRADES (grade_id, enrollment_id, score, grade_letter, is_finalized, finalized_at, updated_at) "
+                             + "VALUES (?, ?, ?, ?, TRUE, ?, ?)");
+             PreparedStatement summaries = connection.prepareStatement(
+                     "INSERT INTO GRADE_SUMMARY (summary_id, student_id, semester, gpa, total_credits, updated_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+            long summaryId = 0;
+            for (int i = 1; i <= students; i++) {
+                SplittableRandom random = new SplittableRandom(i);
+                for (int s = 0; s < semesters.size(); s++) {
+                    double points = 0;
+                    for (int k = 0; k < coursesPerStudent; k++) {
+                        enrollmentId++;
+                        // 학생마다 다른 과목 조합 (31과 과목 수 200은 서로소이므로 한 학생의 과목이 겹치지 않음)
+                        int course = (i * 7 + k * 31) % COURSES_PER_SEMESTER;
+                        enrollments.setLong(1, enrollmentId);
+                        enrollments.setLong(2, i);
+                        enrollments.setLong(3, courseId(s, course));
+                        enrollments.setString(4, semesters.get(s));
+                        enrollments.setTimestamp(5, timestamp);
+                        enrollments.addBatch();
+
+                        int score = 55 + random.nextInt(46);
+                        int grade = gradeIndex(score);
+                        points += POINTS[grade];
+                        grades.setLong(1, enrollmentId);
+                        grades.setLong(2, enrollmentId);
+                        grades.setBigDecimal(3, BigDecimal.valueOf(score));
+                        grades.setString(4, LETTERS[grade]);
+                        grades.setTimestamp(5, timestamp);
+                        grades.setTimestamp(6, timestamp);
+                        grades.addBatch();
+                        pending++;
+                    }
+                    summaries.setLong(1, ++summaryId);
+                    summaries.setLong(2, i);
+                    summaries.setString(3, semesters.get(s));
+                    summaries.setBigDecimal(4, BigDecimal.valueOf(points / coursesPerStudent).setScale(2, RoundingMode.HALF_UP));
+                    summaries.setInt(5, coursesPerStudent * CREDIT);
+                    summaries.setTimestamp(6, timestamp);
+                    summaries.addBatch();
+                }
+                if (pending >= batchSize || i == students) {
+                    enrollments.executeBatch();
+                    grades.executeBatch();
+                    summaries.executeBatch();
+                    connection.commit();
+                    pending = 0;
+                }
+                if (i % 10_000 == 0) {
+                    System.out.printf("  %d / %d students%n", i, students);
+                }
+            }
+        }
+    }
+
+    /**
+     * 이전 학기는 공개 완료, 가장 최근 학기는 지금 공개되는 것으로 만든다 (release_at = 적재 시각).
+     */
+    private void seedReleasePolicies(Connection connection, LocalDateTime now) throws SQLException {
+        try (PreparedStatement policies = connection.prepareStatement(
+                "INSERT INTO GRADE_RELEASE_POLICY (policy_id, semester, is_released, release_at, updated_at) VALUES (?, ?, ?, ?, ?)")) {
+            for (int s = 0; s < semesters.size(); s++) {
+                boolean latest = s == semesters.size() - 1;
+                policies.setLong(1, s + 1);
+                policies.setString(2, semesters.get(s));
+                policies.setBoolean(3, !latest);
+                policies.setTimestamp(4, latest ? Timestamp.valueOf(now) : null);
+                policies.setTimestamp(5, Timestamp.valueOf(latest ? now : now.minusMonths(6L * (semesters.size() - 1 - s))));
+                policies.addBatch();
+            }
+            policies.executeBatch();
+        }
+    }
+
+    /**
+     * 가장 최근 학기의 release_at을 현재 시각으로 옮긴다.
+     */
+    public void releaseLatestSemesterNow(Connection connection) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE GRADE_RELEASE_POLICY SET is_released = FALSE, release_at = ?, updated_at = ? WHERE semester = ?")) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            update.setTimestamp(1, now);
+            update.setTimestamp(2, now);
+            update.setString(3, semesters.get(semesters.size() - 1));
+            update.executeUpdate();
+        }
+    }
+
+    private static long courseId(int semesterIndex, int course) {
+        return (long) semesterIndex * COURSES_PER_SEMESTER + course + 1;
+    }
+
+    private static int gradeIndex(int score) {
+        for (int g = 0; g < CUTOFFS.length; g++) {
+            if (score >= CUTOFFS[g]) {
+                return g;
+            }
+        }
+        return CUTOFFS.length - 1;
+    }
+
+    /**
+     * 최근 학기가 마지막이 되도록 2학기제 학기 이름을 만든다 (예: 4 -> 2023-1, 2023-2, 2024-1, 2024-2).
+     */
+    private static List<String> semesters(int count) {
+        int latestYear = Integer.getInteger("loadtest.latestYear", 2024);
+        List<String> result = new ArrayList<>();
+        for (int i = count - 1; i >= 0; i--) {
+            int year = latestYear - i / 2;
+            int term = i % 2 == 0 ? 2 : 1;
+            result.add(year + "-" + term);
+        }
+        return result;
+    }
+}
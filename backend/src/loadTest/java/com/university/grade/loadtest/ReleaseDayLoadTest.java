@@ -0,0 +1,436 @@
+package com.university.grade.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.grade.Application;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 성적 공개일 트래픽 재현 부하 테스트.
+ * CohortGenerator로 적재한 코호트를 대상으로 실제 컨트롤러에 다음 순서로 요청을 보낸다.
+ * <ol>
+ *   <li>login: 공개 직후 로그인 폭주 (loginUsers명이 동시에 로그인, 503이면 Retry-After 후 재시도)</li>
+ *   <li>read: 로그인한 학생의 대시보드(최근 공개 학기) 조회와 이전 학기 목록 조회</li>
+ *   <li>objection: 조회한 성적에 대한 이의신청 제출</li>
+ * </ol>
+ * 단계별/요청별 처리량, p50/p95/p99 지연 시간, 상태 코드 분포와 엔드포인트별 요청당 SQL 문 수를 출력한다.
+ * SQL 문 수는 서버의 db_statements_per_request 메트릭(요청 스레드에서 실행한 문만 집계) 증가량이므로
+ * 무효화 이벤트 폴링, 조회 모델/GPA 동기화 같은 백그라운드 조회는 포함되지 않는다.
+ *
+ * <pre>
+ * docker run -d -p 3306:3306 -e MYSQL_ROOT_PASSWORD=root mysql:8.0 --lower-case-table-names=1
+ * ./gradlew releaseDayLoadTest                                          # jdbc 세션 모드
+ * ./gradlew releaseDayLoadTest -Dloadtest.profiles=stateless            # token 세션 모드
+ * ./gradlew releaseDayLoadTest -Dloadtest.baseUrl=http://localhost:8080 # 이미 실행 중인 서버 대상
+ * ./gradlew releaseDayLoadTest -Dloadtest.db.url="jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1" # MySQL 없이 (요청당 SQL 문 수 비교용)
+ * </pre>
+ * baseUrl을 지정하지 않으면 애플리케이션을 같은 JVM에서 띄운다 (처음 실행 시 스키마 생성 후 적재, 다시 기동).
+ * 세션 모드별 요청당 SQL 문 수는 label(기본값: 세션 모드)로 구분된 결과를 비교한다.
+ */
+public class ReleaseDayLoadTest {
+    static final String DEFAULT_DB_URL = "jdbc:mysql://localhost:3306/grade_loadtest?createDatabaseIfNotExist=true"
+            + "&useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true&characterEncoding=UTF-8&rewriteBatchedStatements=true";
+    private static final String TOKEN_SECRET = "release-day-load-test-secret-0123456789";
+    private static final Pattern STATEMENT_METRIC = Pattern.compile("^db_statements_per_request_(sum|count)\\{(.*)} (\\S+)$");
+    private static final Pattern METRIC_TAG = Pattern.compile("(\\w+)=\"([^\"]*)\"");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final CohortGenerator cohort = CohortGenerator.fromSystemProperties();
+    private final String dbUrl = System.getProperty("loadtest.db.url", DEFAULT_DB_URL);
+    private final String dbUsername = System.getProperty("loadtest.db.username", "root");
+    private final String dbPassword = System.getProperty("loadtest.db.password", "root");
+    private final String profiles = System.getProperty("loadtest.profiles", "");
+    private final String label = System.getProperty("loadtest.label", profiles.contains("stateless") ? "token" : "jdbc");
+    private final int loginUsers = Math.min(Integer.getInteger("loadtest.loginUsers", 10_000), cohort.getStudents());
+    private final int loginConcurrency = Integer.getInteger("loadtest.loginConcurrency", 200);
+    private final int loginRetries = Integer.getInteger("loadtest.loginRetries", 3);
+    private final int readConcurrency = Integer.getInteger("loadtest.concurrency", 200);
+    private final int readSeconds = Integer.getInteger("loadtest.readSeconds", 60);
+    private final double historyRatio = Double.parseDouble(System.getProperty("loadtest.historyRatio", "0.3"));
+    private final int objections = Integer.getInteger("loadtest.objections", 1000);
+    private final int objectionConcurrency = Integer.getInteger("loadtest.objectionConcurrency", 50);
+
+    // 로그인한 사용자별 쿠키와 대시보드에서 본 수강 ID (objection 단계에서 사용)
+    private final String[] cookies = new String[loginUsers + 1];
+    private final AtomicLongArray enrollmentIds = new AtomicLongArray(loginUsers + 1);
+
+    private final List<String> latencyLines = new ArrayList<>();
+    private final List<String> statementLines = new ArrayList<>();
+
+    public static void main(String[] args) throws Exception {
+        new ReleaseDayLoadTest().run();
+    }
+
+    private void run() throws Exception {
+        String baseUrl = System.getProperty("loadtest.baseUrl");
+        ConfigurableApplicationContext context = null;
+        try (Connection connection = DriverManager.getConnection(dbUrl, dbUsername, dbPassword)) {
+            if (isMySql(connection)) {
+                checkTableNameCase(connection);
+            }
+            if (baseUrl == null && !tablesExist(connection)) {
+                // 처음 실행: 애플리케이션(ddl-auto)으로 스키마만 만들고 종료
+                start().close();
+            }
+            if (Boolean.getBoolean("loadtest.reseed") || !cohort.isSeeded(connection)) {
+                cohort.seed(connection);
+            }
+            // 적재 시점과 관계없이 가장 최근 학기가 지금 공개되는 상황으로 맞춘다 (공개 직후 예열 포함)
+            cohort.releaseLatestSemesterNow(connection);
+            if (baseUrl == null) {
+                context = start();
+                baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            }
+
+            System.out.printf("[%s] %s - %d students, login %d (concurrency %d), read %ds (concurrency %d), objections %d%n",
+                    label, baseUrl, cohort.getStudents(), loginUsers, loginConcurrency, readSeconds, readConcurrency, objections);
+            String target = baseUrl;
+            phase(target, "login", () -> loginPhase(target));
+            phase(target, "read", () -> readPhase(target));
+            phase(target, "objection", () -> objectionPhase(target));
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+
+        System.out.println("label,class,requests,throughput_rps,p50_ms,p95_ms,p99_ms,max_ms,ok,not_modified,overloaded,other,errors");
+        latencyLines.forEach(System.out::println);
+        System.out.println("label,phase,method,uri,requests,statements,statements_per_request");
+        statementLines.forEach(System.out::println);
+        append(System.getProperty("loadtest.output"), latencyLines);
+        append(System.getProperty("loadtest.dbOutput"), statementLines);
+    }
+
+    /**
+     * 설정은 명령행 인자로 넘긴다 (SpringApplicationBuilder.properties()는 기본값이라 application.yml이 우선한다).
+     */
+    private ConfigurableApplicationContext start() {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + dbUrl,
+                "--spring.datasource.username=" + dbUsername,
+                "--spring.datasource.password=" + dbPassword,
+                "--spring.session.jdbc.initialize-schema=always",
+                "--spring.jpa.show-sql=false",
+                "--server.port=0",
+                "--logging.level.com.university.grade=WARN",
+                "--grade.session.token.secret=" + TOKEN_SECRET,
+                "--grade.objection.journal.dir=build/loadtest/objection-journal",
+                "--grade.metrics.statements.enabled=true"));
+        if (dbUrl.startsWith("jdbc:h2:")) {
+            args.add("--spring.datasource.driver-class-name=org.h2.Driver");
+            args.add("--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect");
+        }
+        return new SpringApplicationBuilder(Application.class)
+                .profiles(profiles.isBlank() ? new String[0] : profiles.split(","))
+                .run(args.toArray(new String[0]));
+    }
+
+    /**
+     * 단계 하나를 실행하고 요청 분류별 지연 시간과 엔드포인트별 요청당 SQL 문 수를 기록한다.
+     */
+    private void phase(String baseUrl, String name, PhaseBody body) throws Exception {
+        Map<String, double[]> before = statementCounts(baseUrl);
+        long started = System.nanoTime();
+        Map<String, ThreadModeLoadTest.Recorder> recorders = body.run();
+        double seconds = (System.nanoTime() - started) / 1e9;
+        Map<String, double[]> after = statementCounts(baseUrl);
+
+        long requests = 0;
+        for (Map.Entry<String, ThreadModeLoadTest.Recorder> entry : recorders.entrySet()) {
+            latencyLines.add(entry.getValue().summarize(label, name + ":" + entry.getKey(), seconds));
+            requests += entry.getValue().requests();
+        }
+        long statements = 0;
+        for (Map.Entry<String, double[]> entry : after.entrySet()) {
+            double[] previous = before.getOrDefault(entry.getKey(), new double[2]);
+            long endpointStatements = Math.round(entry.getValue()[0] - previous[0]);
+            long endpointRequests = Math.round(entry.getValue()[1] - previous[1]);
+            // 측정용 /actuator/prometheus 조회는 제외
+            if (endpointRequests == 0 || entry.getKey().contains(",/actuator")) {
+                continue;
+            }
+            statements += endpointStatements;
+            statementLines.add(String.format("%s,%s,%s,%d,%d,%.2f", label, name, entry.getKey(),
+                    endpointRequests, endpointStatements, (double) endpointStatements / endpointRequests));
+        }
+        System.out.printf("[%s] %s done in %.1fs - %d requests, %d statements%n", label, name, seconds, requests, statements);
+    }
+
+    private Map<String, ThreadModeLoadTest.Recorder> loginPhase(String baseUrl) throws Exception {
+        AtomicInteger next = new AtomicInteger();
+        return runWorkers(loginConcurrency, List.of("login"), recorders -> {
+            int user;
+            while ((user = next.incrementAndGet()) <= loginUsers) {
+                String body = "{\"userId\":\"" + CohortGenerator.loginId(user) + "\",\"password\":\"" + CohortGenerator.PASSWORD + "\"}";
+                HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/auth/login"))
+                        .timeout(Duration.ofSeconds(30))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+                for (int attempt = 0; attempt <= loginRetries; attempt++) {
+                    Result result = send(request, recorders.get("login"));
+                    if (result.status == 200) {
+                        cookies[user] = result.cookie;
+                        break;
+                    }
+                    if (result.status != 503) {
+                        break;
+                    }
+                    sleepSeconds(result.retryAfterSeconds);
+                }
+            }
+        });
+    }
+
+    private Map<String, ThreadModeLoadTest.Recorder> readPhase(String baseUrl) throws Exception {
+        List<String> semesters = cohort.getSemesters();
+        long deadline = System.nanoTime() + Duration.ofSeconds(readSeconds).toNanos();
+        return runWorkers(readConcurrency, List.of("dashboard", "history"), recorders -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (System.nanoTime() < deadline) {
+                int user = 1 + random.nextInt(loginUsers);
+                if (cookies[user] == null) {
+                    continue;
+                }
+                if (random.nextDouble() < historyRatio && semesters.size() > 1) {
+                    // 이전 학기 성적 목록
+                    String semester = semesters.get(random.nextInt(semesters.size() - 1));
+                    send(get(baseUrl + "/api/v1/grades/list?semester=" + semester, cookies[user]), recorders.get("history"));
+                    continue;
+                }
+                Result result = send(get(baseUrl + "/api/v1/grades/dashboard", cookies[user]), recorders.get("dashboard"));
+                if (result.status == 200 && enrollmentIds.get(user) == 0) {
+                    enrollmentIds.set(user, firstEnrollmentId(result.body));
+                }
+            }
+        });
+    }
+
+    private Map<String, ThreadModeLoadTest.Recorder> objectionPhase(String baseUrl) throws Exception {
+        List<Integer> candidates = new ArrayList<>();
+        for (int user = 1; user <= loginUsers; user++) {
+            if (cookies[user] != null && enrollmentIds.get(user) > 0) {
+                candidates.add(user);
+            }
+        }
+        if (candidates.isEmpty()) {
+            System.out.printf("[%s] no dashboard responses with grades - skipping objections%n", label);
+            return Map.of();
+        }
+        AtomicInteger next = new AtomicInteger();
+        return runWorkers(objectionConcurrency, List.of("objection"), recorders -> {
+            int n;
+            while ((n = next.getAndIncrement()) < objections) {
+                int user = candidates.get(n % candidates.size());
+                String body = "{\"enrollmentId\":" + enrollmentIds.get(user)
+                        + ",\"title\":\"성적 확인 요청\",\"reason\":\"부하 테스트 " + n + "\"}";
+                send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/objections"))
+                        .timeout(Duration.ofSeconds(30))
+                        .header("Content-Type", "application/json")
+                        .header("Cookie", cookies[user])
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(), recorders.get("objection"));
+            }
+        });
+    }
+
+    /**
+     * 워커마다 요청 분류별 Recorder를 따로 두고 마지막에 합친다.
+     */
+    private Map<String, ThreadModeLoadTest.Recorder> runWorkers(int concurrency, List<String> classes, Worker worker)
+            throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<Map<String, ThreadModeLoadTest.Recorder>>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> {
+                    Map<String, ThreadModeLoadTest.Recorder> recorders = newRecorders(classes);
+                    worker.run(recorders);
+                    return recorders;
+                }));
+            }
+            Map<String, ThreadModeLoadTest.Recorder> merged = newRecorders(classes);
+            for (Future<Map<String, ThreadModeLoadTest.Recorder>> future : futures) {
+                future.get().forEach((name, recorder) -> merged.get(name).merge(recorder));
+            }
+            return merged;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private static Map<String, ThreadModeLoadTest.Recorder> newRecorders(List<String> classes) {
+        Map<String, ThreadModeLoadTest.Recorder> recorders = new LinkedHashMap<>();
+        classes.forEach(name -> recorders.put(name, new ThreadModeLoadTest.Recorder()));
+        return recorders;
+    }
+
+    private static HttpRequest get(String url, String cookie) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .header("Cookie", cookie)
+                .GET()
+                .build();
+    }
+
+    private Result send(HttpRequest request, ThreadModeLoadTest.Recorder recorder) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            recorder.record(response.statusCode(), System.nanoTime() - start);
+            return new Result(response.statusCode(), response.body(), sessionCookie(response),
+                    response.headers().firstValueAsLong("Retry-After").orElse(1));
+        } catch (IOException e) {
+            recorder.record(-1, System.nanoTime() - start);
+            return new Result(-1, null, null, 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("load test interrupted", e);
+        }
+    }
+
+    /**
+     * Set-Cookie에서 이름=값만 모은다 (jdbc 모드 SESSION, token 모드 GRADE_SESSION).
+     */
+    private static String sessionCookie(HttpResponse<?> response) {
+        List<String> values = new ArrayList<>();
+        for (String header : response.headers().allValues("Set-Cookie")) {
+            values.add(header.split(";", 2)[0]);
+        }
+        return values.isEmpty() ? null : String.join("; ", values);
+    }
+
+    private long firstEnrollmentId(String body) {
+        try {
+            JsonNode grades = objectMapper.readTree(body).path("grades");
+            return grades.isArray() && !grades.isEmpty() ? grades.get(0).path("enrollmentId").asLong() : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * /actuator/prometheus의 db_statements_per_request를 "method,uri" -> {sum, count}로 읽는다.
+     */
+    private Map<String, double[]> statementCounts(String baseUrl) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/prometheus"))
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("/actuator/prometheus returned " + response.statusCode());
+        }
+        Map<String, double[]> counts = new TreeMap<>();
+        response.body().lines().forEach(line -> {
+            Matcher metric = STATEMENT_METRIC.matcher(line);
+            if (!metric.matches()) {
+                return;
+            }
+            Map<String, String> tags = new HashMap<>();
+            Matcher tag = METRIC_TAG.matcher(metric.group(2));
+            while (tag.find()) {
+                tags.put(tag.group(1), tag.group(2));
+            }
+            double[] values = counts.computeIfAbsent(tags.get("method") + "," + tags.get("uri"), key -> new double[2]);
+            values["sum".equals(metric.group(1)) ? 0 : 1] = Double.parseDouble(metric.group(3));
+        });
+        return counts;
+    }
+
+    private static boolean isMySql(Connection connection) throws SQLException {
+        return connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+    }
+
+    /**
+     * 애플리케이션은 소문자 테이블(JPA 명명 규칙)을, 네이티브 SQL과 README의 DDL은 대문자 테이블 이름을 사용하므로
+     * 운영 DB처럼 lower_case_table_names=1 이어야 한다.
+     */
+    private static void checkTableNameCase(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT @@lower_case_table_names")) {
+            if (rs.next() && rs.getInt(1) == 0) {
+                throw new IllegalStateException(
+                        "MySQL must run with --lower-case-table-names=1 (table names are used in both cases)");
+            }
+        }
+    }
+
+    private static boolean tablesExist(Connection connection) {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeQuery("SELECT 1 FROM GRADE_OBJECTIONS LIMIT 1").close();
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private static void sleepSeconds(long seconds) {
+        try {
+            Thread.sleep(Duration.ofSeconds(Math.max(1, Math.min(seconds, 10))).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void append(String output, List<String> lines) throws IOException {
+        if (output == null) {
+            return;
+        }
+        Path path = Path.of(output);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.write(path, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private record Result(int status, String body, String cookie, long retryAfterSeconds) {
+    }
+
+    @FunctionalInterface
+    private interface PhaseBody {
+        Map<String, ThreadModeLoadTest.Recorder> run() throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface Worker {
+        void run(Map<String, ThreadModeLoadTest.Recorder> recorders) throws Exception;
+    }
+}
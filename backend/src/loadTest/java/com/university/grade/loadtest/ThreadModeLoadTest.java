@@ -0,0 +1,207 @@
+package com.university.grade.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 스레드 모드(platform / virtual-threads) 비교용 부하 테스트.
+ * 캐시에 올라간 소수 학생의 성적 목록 조회(cached)와 매번 다른 학생의 대시보드 조회(db)를 섞어 보내고,
+ * 요청 종류별 처리량과 p50/p95/p99 지연 시간, 상태 코드 분포를 출력한다.
+ *
+ * <pre>
+ * ./gradlew loadTest -Dloadtest.label=platform
+ * ./gradlew loadTest -Dloadtest.label=virtual -Dloadtest.output=build/loadtest.csv
+ * </pre>
+ * 두 모드를 같은 설정으로 실행한 뒤 output 파일(CSV)을 비교한다.
+ * DB가 느린 상황을 재현하려면 MySQL에 부하를 주거나 DB_MAX_POOL_SIZE를 줄여서 실행한다.
+ */
+public class ThreadModeLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadtest.baseUrl", "http://localhost:8080");
+        String label = System.getProperty("loadtest.label", "run");
+        String semester = System.getProperty("loadtest.semester", "2024-1");
+        int concurrency = Integer.getInteger("loadtest.concurrency", 200);
+        int durationSeconds = Integer.getInteger("loadtest.durationSeconds", 60);
+        int warmupSeconds = Integer.getInteger("loadtest.warmupSeconds", 10);
+        int hotStudents = Integer.getInteger("loadtest.hotStudents", 20);
+        long studentIdFrom = Long.getLong("loadtest.studentIdFrom", 1L);
+        long studentIdTo = Long.getLong("loadtest.studentIdTo", 50_000L);
+        double dbRatio = Double.parseDouble(System.getProperty("loadtest.dbRatio", "0.5"));
+        String output = System.getProperty("loadtest.output");
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        // 캐시 대상 학생의 목록을 먼저 한 번씩 조회하여 캐시에 올린다
+        for (long id = studentIdFrom; id < studentIdFrom + hotStudents; id++) {
+            send(client, listRequest(baseUrl, semester, id));
+        }
+
+        System.out.printf("[%s] warmup %ds, measure %ds, concurrency %d, dbRatio %.2f%n",
+                label, warmupSeconds, durationSeconds, concurrency, dbRatio);
+
+        long measureFrom = System.nanoTime() + Duration.ofSeconds(warmupSeconds).toNanos();
+        long deadline = measureFrom + Duration.ofSeconds(durationSeconds).toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<Future<Recorder[]>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(workers.submit(() -> {
+                Recorder cached = new Recorder();
+                Recorder db = new Recorder();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    boolean dbBound = random.nextDouble() < dbRatio;
+                    HttpRequest request = dbBound
+                            ? dashboardRequest(baseUrl, semester, random.nextLong(studentIdFrom + hotStudents, studentIdTo + 1))
+                            : listRequest(baseUrl, semester, studentIdFrom + random.nextInt(hotStudents));
+
+                    long start = System.nanoTime();
+                    int status = send(client, request);
+                    long elapsed = System.nanoTime() - start;
+                    if (start >= measureFrom) {
+                        (dbBound ? db : cached).record(status, elapsed);
+                    }
+                }
+                return new Recorder[]{cached, db};
+            }));
+        }
+
+        Recorder cached = new Recorder();
+        Recorder db = new Recorder();
+        for (Future<Recorder[]> future : futures) {
+            Recorder[] result = future.get();
+            cached.merge(result[0]);
+            db.merge(result[1]);
+        }
+        workers.shutdown();
+
+        List<String> lines = List.of(
+                cached.summarize(label, "cached", durationSeconds),
+                db.summarize(label, "db", durationSeconds));
+        System.out.println("label,class,requests,throughput_rps,p50_ms,p95_ms,p99_ms,max_ms,ok,not_modified,overloaded,other,errors");
+        lines.forEach(System.out::println);
+
+        if (output != null) {
+            Path path = Path.of(output);
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.write(path, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+    }
+
+    private static HttpRequest listRequest(String baseUrl, String semester, long studentId) {
+        return get(baseUrl + "/api/v1/grades/list?semester=" + semester, studentId);
+    }
+
+    private static HttpRequest dashboardRequest(String baseUrl, String semester, long studentId) {
+        return get(baseUrl + "/api/v1/grades/dashboard?semester=" + semester, studentId);
+    }
+
+    private static HttpRequest get(String url, long studentId) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .header("X-Student-Id", String.valueOf(studentId))
+                .GET()
+                .build();
+    }
+
+    /**
+     * @return HTTP 상태 코드, 연결 실패/타임아웃은 -1
+     */
+    private static int send(HttpClient client, HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("load test interrupted", e);
+        }
+    }
+
+    /**
+     * 워커별로 따로 기록한 뒤 마지막에 합친다 (측정 중 공유 자료구조 경합 없음).
+     */
+    static class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long ok;
+        private long notModified;
+        private long overloaded;
+        private long other;
+        private long errors;
+
+        void record(int status, long elapsedNanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = elapsedNanos;
+            if (status == 304) {
+                notModified++;
+            } else if (status >= 200 && status < 300) {
+                ok++;
+            } else if (status == 503) {
+                overloaded++;
+            } else if (status < 0) {
+                errors++;
+            } else {
+                other++;
+            }
+        }
+
+        int requests() {
+            return count;
+        }
+
+        void merge(Recorder o) {
+            if (count + o.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, count + o.count);
+            }
+            System.arraycopy(o.latencies, 0, latencies, count, o.count);
+            count += o.count;
+            ok += o.ok;
+            notModified += o.notModified;
+            overloaded += o.overloaded;
+            other += o.other;
+            errors += o.errors;
+        }
+
+        String summarize(String label, String requestClass, double durationSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return String.format("%s,%s,%d,%.1f,%.1f,%.1f,%.1f,%.1f,%d,%d,%d,%d,%d",
+                    label, requestClass, count, count / durationSeconds,
+                    percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.95),
+                    percentileMillis(sorted, 0.99), sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1_000_000.0,
+                    ok, notModified, overloaded, other, errors);
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+        }
+    }
+}
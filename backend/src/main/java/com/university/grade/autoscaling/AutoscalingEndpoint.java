@@ -0,0 +1,23 @@
+package com.university.grade.autoscaling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * /actuator/autoscaling - HPA가 사용하는 desiredCapacity와 구성 지표, 목표값.
+ */
+@Component
+@Endpoint(id = "autoscaling")
+@RequiredArgsConstructor
+public class AutoscalingEndpoint {
+    private final AutoscalingSignals autoscalingSignals;
+
+    @ReadOperation
+    public Map<String, Object> signals() {
+        return autoscalingSignals.snapshot();
+    }
+}
@@ -0,0 +1,239 @@
+package com.university.grade.autoscaling;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.university.grade.datasource.ConcurrencyLimitedDataSource;
+import com.university.grade.filter.LoadSheddingFilter;
+import com.university.grade.service.PasswordVerificationService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HPA용 선행 지표. CPU/메모리는 로그인 폭주 때 대기열이 이미 쌓인 뒤에야 오르므로, 쌓이기 시작한 일의 양으로 Pod 수를 정한다.
+ * <ul>
+ *   <li>in-flight: 처리 중 요청 수 / target.in-flight</li>
+ *   <li>login-backlog: (BCrypt 대기 + 검증 중 + 부하 차단 필터에서 대기 중인 로그인) / target.login-backlog</li>
+ *   <li>db-backlog: (DB 허가 대기 + Hikari 커넥션 대기) / target.db-backlog.
+ *       MySQL이 느려 DB 동시성 한도가 줄어든 동안에는 Pod를 늘려도 해소되지 않으므로 0으로 본다.</li>
+ * </ul>
+ * grade.autoscaling.desired.capacity는 위 값 중 최댓값을 window-seconds 동안 유지한 값이다 (1.0 = 목표 부하).
+ * HPA가 AverageValue 1로 이 값을 사용하면 필요한 Pod 수는 ceil(현재 Pod 수 x 평균값)이 된다.
+ */
+@Component
+@Slf4j
+public class AutoscalingSignals {
+    // DB 조회로 이어지는 캐시 (JSON 응답 캐시 미스는 이 캐시에서 다시 찾으므로 제외)
+    private static final List<String> DB_BACKED_CACHES = List.of("gradeSummary", "gradeList", "availableSemesters");
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<LoadSheddingFilter> loadSheddingFilter;
+    private final PasswordVerificationService passwordVerificationService;
+    private final ObjectProvider<DataSource> dataSource;
+    private final CacheManager cacheManager;
+    private final double targetInFlight;
+    private final double targetLoginBacklog;
+    private final double targetDbBacklog;
+
+    private final double[] window;
+    private int windowIndex;
+    private volatile double inFlightSignal;
+    private volatile double loginBacklogSignal;
+    private volatile double dbBacklogSignal;
+    private volatile double desiredCapacity;
+
+    // 캐시 미스율은 구간 시작 표본과의 통계 차이로 계산한다 (누적 값은 공개 직후 변화를 가림)
+    private final long[] cacheRequests;
+    private final long[] cacheMisses;
+    private final long[] sampledAt;
+    private volatile double cacheMissRatio;
+    private volatile double cacheMissesPerSecond;
+
+    private volatile ConcurrencyLimitedDataSource limitedDataSource;
+    private volatile boolean dataSourceResolved;
+
+    public AutoscalingSignals(MeterRegistry meterRegistry,
+                              ObjectProvider<LoadSheddingFilter> loadSheddingFilter,
+                              PasswordVerificationService passwordVerificationService,
+                              ObjectProvider<DataSource> dataSource,
+                              CacheManager cacheManager,
+                              @Value("${grade.autoscaling.target.in-flight:140}") double targetInFlight,
+                              @Value("${grade.autoscaling.target.login-backlog:10}") double targetLoginBacklog,
+                              @Value("${grade.autoscaling.target.db-backlog:10}") double targetDbBacklog,
+                              @Value("${grade.autoscaling.window-seconds:30}") int windowSeconds,
+                              @Value("${grade.autoscaling.sample-interval-ms:1000}") long sampleIntervalMs) {
+        this.meterRegistry = meterRegistry;
+        this.loadSheddingFilter = loadSheddingFilter;
+        this.passwordVerificationService = passwordVerificationService;
+        this.dataSource = dataSource;
+        this.cacheManager = cacheManager;
+        this.targetInFlight = Math.max(1, targetInFlight);
+        this.targetLoginBacklog = Math.max(1, targetLoginBacklog);
+        this.targetDbBacklog = Math.max(1, targetDbBacklog);
+        int samples = (int) Math.max(1, windowSeconds * 1000L / Math.max(1, sampleIntervalMs));
+        this.window = new double[samples];
+        this.cacheRequests = new long[samples];
+        this.cacheMisses = new long[samples];
+        this.sampledAt = new long[samples];
+
+        Gauge.builder("grade.autoscaling.desired.capacity", this, AutoscalingSignals::getDesiredCapacity)
+                .description("Peak of the normalized load signals over the window (1.0 = pod at target load)")
+                .register(meterRegistry);
+        Gauge.builder("grade.autoscaling.signal", this, signals -> signals.inFlightSignal)
+                .description("Normalized load signal (1.0 = target)")
+                .tag("signal", "in-flight")
+                .register(meterRegistry);
+        Gauge.builder("grade.autoscaling.signal", this, signals -> signals.loginBacklogSignal)
+                .description("Normalized load signal (1.0 = target)")
+                .tag("signal", "login-backlog")
+                .register(meterRegistry);
+        Gauge.builder("grade.autoscaling.signal", this, signals -> signals.dbBacklogSignal)
+                .description("Normalized load signal (1.0 = target)")
+                .tag("signal", "db-backlog")
+                .register(meterRegistry);
+        Gauge.builder("grade.autoscaling.login.backlog", this, AutoscalingSignals::loginBacklog)
+                .description("Logins waiting for or running BCrypt verification")
+                .register(meterRegistry);
+        Gauge.builder("grade.autoscaling.db.backlog", this, AutoscalingSignals::dbBacklog)
+                .description("Requests waiting for a DB permit or a pooled connection")
+                .register(meterRegistry);
+        Gauge.builder("grade.autoscaling.cache.miss.ratio", this, signals -> signals.cacheMissRatio)
+                .description("Miss ratio of DB-backed grade caches over the window")
+                .register(meterRegistry);
+        Gauge.builder("grade.autoscaling.cache.misses", this, signals -> signals.cacheMissesPerSecond)
+                .description("Misses per second of DB-backed grade caches over the window")
+                .baseUnit("per-second")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedRateString = "${grade.autoscaling.sample-interval-ms:1000}")
+    public void sample() {
+        try {
+            LoadSheddingFilter shedding = loadSheddingFilter.getIfAvailable();
+            inFlightSignal = shedding == null ? 0 : shedding.getInFlight() / targetInFlight;
+            loginBacklogSignal = loginBacklog() / targetLoginBacklog;
+            ConcurrencyLimitedDataSource limited = limitedDataSource();
+            boolean dbBound = limited != null && limited.getLimit() < limited.getMaxLimit();
+            dbBacklogSignal = dbBound ? 0 : dbBacklog() / targetDbBacklog;
+
+            double current = Math.max(inFlightSignal, Math.max(loginBacklogSignal, dbBacklogSignal));
+            record(current, cacheTotals());
+        } catch (Exception e) {
+            log.warn("Failed to sample autoscaling signals: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 지표와 목표값 (/actuator/autoscaling).
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> signals = new LinkedHashMap<>();
+        signals.put("in-flight", inFlightSignal);
+        signals.put("login-backlog", loginBacklogSignal);
+        signals.put("db-backlog", dbBacklogSignal);
+
+        Map<String, Object> targets = new LinkedHashMap<>();
+        targets.put("in-flight", targetInFlight);
+        targets.put("login-backlog", targetLoginBacklog);
+        targets.put("db-backlog", targetDbBacklog);
+
+        Map<String, Object> raw = new LinkedHashMap<>();
+        LoadSheddingFilter shedding = loadSheddingFilter.getIfAvailable();
+        raw.put("inFlight", shedding == null ? null : shedding.getInFlight());
+        raw.put("loginBacklog", loginBacklog());
+        raw.put("dbBacklog", dbBacklog());
+        ConcurrencyLimitedDataSource limited = limitedDataSource();
+        raw.put("dbLimit", limited == null ? null : limited.getLimit());
+        raw.put("dbMaxLimit", limited == null ? null : limited.getMaxLimit());
+        raw.put("cacheMissRatio", cacheMissRatio);
+        raw.put("cacheMissesPerSecond", cacheMissesPerSecond);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("desiredCapacity", desiredCapacity);
+        result.put("signals", signals);
+        result.put("targets", targets);
+        result.put("raw", raw);
+        return result;
+    }
+
+    public double getDesiredCapacity() {
+        return desiredCapacity;
+    }
+
+    private double loginBacklog() {
+        LoadSheddingFilter shedding = loadSheddingFilter.getIfAvailable();
+        return passwordVerificationService.getBacklog() + (shedding == null ? 0 : shedding.getLoginWaiting());
+    }
+
+    /**
+     * Hikari 대기 수는 Boot가 등록한 hikaricp.connections.pending 게이지를 모두 더한다 (복제본 풀 포함).
+     */
+    private double dbBacklog() {
+        double pending = meterRegistry.find("hikaricp.connections.pending").gauges().stream()
+                .mapToDouble(Gauge::value)
+                .filter(value -> !Double.isNaN(value))
+                .sum();
+        ConcurrencyLimitedDataSource limited = limitedDataSource();
+        return pending + (limited == null ? 0 : limited.getWaiting());
+    }
+
+    /**
+     * DB 조회로 이어지는 캐시의 누적 {조회 수, 미스 수}.
+     */
+    private long[] cacheTotals() {
+        long[] totals = new long[2];
+        for (String name : DB_BACKED_CACHES) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+                CacheStats stats = nativeCache.stats();
+                totals[0] += stats.requestCount();
+                totals[1] += stats.missCount();
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * 가장 오래된 표본 자리에 새 표본을 기록하고, 구간 최댓값과 구간 동안의 캐시 미스율을 다시 계산한다.
+     */
+    private void record(double current, long[] cacheTotals) {
+        long now = System.nanoTime();
+        synchronized (window) {
+            windowIndex = (windowIndex + 1) % window.length;
+            if (sampledAt[windowIndex] != 0) {
+                long requestDelta = cacheTotals[0] - cacheRequests[windowIndex];
+                long missDelta = cacheTotals[1] - cacheMisses[windowIndex];
+                cacheMissRatio = requestDelta > 0 ? (double) missDelta / requestDelta : 0;
+                cacheMissesPerSecond = missDelta / Math.max(1e-9, (now - sampledAt[windowIndex]) / 1e9);
+            }
+            window[windowIndex] = current;
+            cacheRequests[windowIndex] = cacheTotals[0];
+            cacheMisses[windowIndex] = cacheTotals[1];
+            sampledAt[windowIndex] = now;
+
+            double peak = 0;
+            for (double value : window) {
+                peak = Math.max(peak, value);
+            }
+            desiredCapacity = peak;
+        }
+    }
+
+    private ConcurrencyLimitedDataSource limitedDataSource() {
+        if (!dataSourceResolved) {
+            limitedDataSource = ConcurrencyLimitedDataSource.find(dataSource.getIfAvailable());
+            dataSourceResolved = true;
+        }
+        return limitedDataSource;
+    }
+}
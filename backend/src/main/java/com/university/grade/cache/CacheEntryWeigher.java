@@ -0,0 +1,28 @@
+package com.university.grade.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.university.grade.service.GradeResponseCache;
+
+import java.util.Collection;
+
+/**
+ * maximum-weight를 지정한 캐시의 항목 가중치.
+ * 목록은 원소 수, 직렬화된 응답은 바이트 수(JSON + gzip), 그 외는 1로 계산한다.
+ */
+public final class CacheEntryWeigher implements Weigher<Object, Object> {
+    public static final CacheEntryWeigher INSTANCE = new CacheEntryWeigher();
+
+    private CacheEntryWeigher() {
+    }
+
+    @Override
+    public int weigh(Object key, Object value) {
+        if (value instanceof Collection<?> collection) {
+            return 1 + collection.size();
+        }
+        if (value instanceof GradeResponseCache.SerializedResponse response) {
+            return response.json().length + (response.gzip() != null ? response.gzip().length : 0);
+        }
+        return 1;
+    }
+}
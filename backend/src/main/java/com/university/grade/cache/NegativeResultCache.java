@@ -0,0 +1,71 @@
+package com.university.grade.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * "없음" 결과(성적 요약 없음, 빈 학기 목록)를 짧은 TTL로 기억하는 부정 캐시.
+ * 성적이 없는 학생이나 신입생이 새로고침할 때마다 DB를 다시 조회하지 않게 한다.
+ * TTL은 grade.cache.specs.gradeNegative 로 정하고, 해당 학생의 데이터가 생기면
+ * CacheInvalidationService.evictLocal 에서 함께 제거된다. L1(Pod 메모리)에만 저장한다.
+ */
+@Component
+public class NegativeResultCache {
+    public static final String CACHE_NAME = "gradeNegative";
+
+    private final Cache cache;
+    private final Counter summaryHits;
+    private final Counter summaryStores;
+    private final Counter semestersHits;
+    private final Counter semestersStores;
+
+    public NegativeResultCache(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        this.summaryHits = meterRegistry.counter("grade.cache.negative.hits", "type", "summary");
+        this.summaryStores = meterRegistry.counter("grade.cache.negative.stores", "type", "summary");
+        this.semestersHits = meterRegistry.counter("grade.cache.negative.hits", "type", "semesters");
+        this.semestersStores = meterRegistry.counter("grade.cache.negative.stores", "type", "semesters");
+    }
+
+    public static String summaryKey(Long studentId, String semester) {
+        return "summary:" + studentId + ":" + semester;
+    }
+
+    public static String semestersKey(Long studentId) {
+        return "semesters:" + studentId;
+    }
+
+    public boolean isSummaryMissing(Long studentId, String semester) {
+        return check(summaryKey(studentId, semester), summaryHits);
+    }
+
+    public void markSummaryMissing(Long studentId, String semester) {
+        store(summaryKey(studentId, semester), summaryStores);
+    }
+
+    public boolean isSemestersEmpty(Long studentId) {
+        return check(semestersKey(studentId), semestersHits);
+    }
+
+    public void markSemestersEmpty(Long studentId) {
+        store(semestersKey(studentId), semestersStores);
+    }
+
+    private boolean check(String key, Counter hits) {
+        if (cache == null || cache.get(key) == null) {
+            return false;
+        }
+        hits.increment();
+        return true;
+    }
+
+    private void store(String key, Counter stores) {
+        if (cache != null) {
+            cache.put(key, Boolean.TRUE);
+            stores.increment();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.university.grade.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.university.grade.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 캐시 미스를 하나의 로드로 합친다 (single-flight).
+ * 먼저 도착한 요청(leader)만 로더를 실행하고, 나머지는 그 결과(또는 예외)를 timeout-ms 까지 기다린다.
+ * 대기 시간을 넘기면 503 + Retry-After로 거절하여 DB 지연이 요청 스레드 적체로 번지지 않게 한다.
+ * 로더는 호출 스레드에서 실행되므로 대기하는 요청은 DB 커넥션을 잡지 않는다 (로더 밖에서 트랜잭션을 시작하지 말 것).
+ */
+@Component
+@Slf4j
+public class SingleFlight {
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    // 합쳐진 요청이 많았던 키 (메트릭 태그로 쓰기에는 키 종류가 많아 별도로 보관)
+    private final com.github.benmanes.caffeine.cache.Cache<String, LongAdder> collapsedByKey;
+    private final MeterRegistry meterRegistry;
+    private final long timeoutMs;
+    private final long retryAfterSeconds;
+
+    public SingleFlight(MeterRegistry meterRegistry,
+                        @Value("${grade.cache.single-flight.timeout-ms:5000}") long timeoutMs,
+                        @Value("${grade.cache.single-flight.retry-after-seconds:2}") long retryAfterSeconds,
+                        @Value("${grade.cache.single-flight.tracked-keys:1000}") long trackedKeys) {
+        this.meterRegistry = meterRegistry;
+        this.timeoutMs = timeoutMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.collapsedByKey = Caffeine.newBuilder()
+                .maximumSize(trackedKeys)
+                .expireAfterAccess(1, TimeUnit.HOURS)
+                .build();
+        Gauge.builder("cache.singleflight.inflight", inFlight, Map::size)
+                .description("Loads currently shared by concurrent callers")
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String group, Object key, Supplier<T> loader) {
+        String flightKey = group + "|" + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+
+        if (existing == null) {
+            meterRegistry.counter("cache.singleflight.loads", "group", group).increment();
+            try {
+                T value = loader.get();
+                flight.complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                flight.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(flightKey, flight);
+            }
+        }
+
+        meterRegistry.counter("cache.singleflight.collapsed", "group", group).increment();
+        collapsedByKey.get(flightKey, k -> new LongAdder()).increment();
+        try {
+            return (T) existing.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            meterRegistry.counter("cache.singleflight.timeouts", "group", group).increment();
+            log.warn("Timed out after {}ms waiting for in-flight load of {}", timeoutMs, flightKey);
+            throw new ServiceOverloadedException("요청이 많아 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        } catch (ExecutionException e) {
+            // leader와 같은 결과를 받도록 원래 예외를 그대로 전달 (예: 성적 요약 없음)
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + flightKey, e);
+        }
+    }
+
+    /**
+     * 합쳐진 요청 수가 많은 순서로 상위 limit개 키.
+     */
+    public Map<String, Long> topCollapsedKeys(int limit) {
+        Map<String, Long> top = new LinkedHashMap<>();
+        collapsedByKey.asMap().entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+        return top;
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+}
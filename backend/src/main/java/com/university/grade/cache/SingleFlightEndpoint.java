@@ -0,0 +1,28 @@
+package com.university.grade.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * /actuator/singleflight - 키별로 합쳐진 요청 수 (상위 N개)와 현재 진행 중인 로드 수.
+ */
+@Component
+@Endpoint(id = "singleflight")
+@RequiredArgsConstructor
+public class SingleFlightEndpoint {
+    private final SingleFlight singleFlight;
+
+    @ReadOperation
+    public Map<String, Object> collapsed(@Nullable Integer limit) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("inFlight", singleFlight.getInFlightCount());
+        result.put("topCollapsedKeys", singleFlight.topCollapsedKeys(limit != null ? limit : 20));
+        return result;
+    }
+}
@@ -0,0 +1,258 @@
+package com.university.grade.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * L1(Pod 메모리 Caffeine) -> L2(Redis 프로토콜 공유 저장소) 순서로 조회하는 캐시.
+ * L2 히트는 L1에 다시 채우고, 로드한 값은 두 계층에 모두 저장한다.
+ * 새로 뜬 Pod는 L2에서 값을 가져가므로 스케일 아웃 직후에도 DB 조회가 Pod 수만큼 늘어나지 않는다.
+ * L2 장애 시에는 failure-backoff 동안 L2를 건너뛰고 L1 + DB로만 동작한다.
+ * 무효화(evict)는 L2 값을 지우는 대신 tombstone-ttl 동안 남는 표식으로 덮어쓰고, L2 저장은 표식이 있으면 건너뛴다.
+ * 무효화 전에 시작된 조회가 늦게 끝나 이전 값을 L2에 다시 올려 모든 Pod에 퍼뜨리는 것을 막는다.
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+    private static final byte[] NULL_MARKER = new byte[0];
+    // JSON 직렬화 결과와 겹치지 않는 무효화 표식
+    private static final byte[] TOMBSTONE = {'~'};
+    // 무효화 표식이 없을 때만 저장 (GET과 SET 사이에 다른 Pod의 무효화가 끼어들지 않도록 스크립트로 실행)
+    private static final RedisScript<Long> SET_UNLESS_TOMBSTONE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[2] then return 0 end "
+                    + "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3]) return 1", Long.class);
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> l1;
+    private final RedisTemplate<String, byte[]> l2;
+    private final ObjectMapper objectMapper;
+    private final JavaType valueType;
+    private final Duration l2Ttl;
+    private final Duration tombstoneTtl;
+    private final long failureBackoffMs;
+    private final String keyPrefix;
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Counter l2Errors;
+
+    private volatile long l2SuspendedUntil;
+
+    public TwoTierCache(String name,
+                        com.github.benmanes.caffeine.cache.Cache<Object, Object> l1,
+                        RedisTemplate<String, byte[]> l2,
+                        ObjectMapper objectMapper,
+                        JavaType valueType,
+                        String keyPrefix,
+                        Duration l2Ttl,
+                        Duration tombstoneTtl,
+                        long failureBackoffMs,
+                        boolean allowNullValues,
+                        MeterRegistry meterRegistry) {
+        super(allowNullValues);
+        this.name = name;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.objectMapper = objectMapper;
+        this.valueType = valueType;
+        this.keyPrefix = keyPrefix + name + ":";
+        this.l2Ttl = l2Ttl;
+        this.tombstoneTtl = tombstoneTtl;
+        this.failureBackoffMs = failureBackoffMs;
+
+        this.l1Hits = meterRegistry.counter("cache.tier.gets", "cache", name, "tier", "l1", "result", "hit");
+        this.l1Misses = meterRegistry.counter("cache.tier.gets", "cache", name, "tier", "l1", "result", "miss");
+        this.l2Hits = meterRegistry.counter("cache.tier.gets", "cache", name, "tier", "l2", "result", "hit");
+        this.l2Misses = meterRegistry.counter("cache.tier.gets", "cache", name, "tier", "l2", "result", "miss");
+        this.l2Errors = meterRegistry.counter("cache.tier.l2.errors", "cache", name);
+        Gauge.builder("cache.tier.hit.ratio", () -> ratio(l1Hits, l1Misses))
+                .tags("cache", name, "tier", "l1")
+                .register(meterRegistry);
+        // L2 적중률은 L1 미스 중 L2에서 찾은 비율
+        Gauge.builder("cache.tier.hit.ratio", () -> ratio(l2Hits, l2Misses))
+                .tags("cache", name, "tier", "l2")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l1;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = l1.getIfPresent(key);
+        if (value != null) {
+            l1Hits.increment();
+            return value;
+        }
+        l1Misses.increment();
+
+        byte[] bytes = l2Call(() -> l2.opsForValue().get(l2Key(key)), null);
+        if (bytes == null || Arrays.equals(bytes, TOMBSTONE)) {
+            if (isL2Available()) {
+                l2Misses.increment();
+            }
+            return null;
+        }
+        Object stored = bytes.length == 0 ? NullValue.INSTANCE : readValue(bytes);
+        if (stored == null) {
+            l2Misses.increment();
+            return null;
+        }
+        l2Hits.increment();
+        l1.put(key, stored);
+        return stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object stored = toStoreValue(value);
+        l1.put(key, stored);
+        byte[] bytes = writeValue(stored);
+        if (bytes != null) {
+            l2Call(() -> l2.execute(SET_UNLESS_TOMBSTONE, List.of(l2Key(key)),
+                    bytes, TOMBSTONE, String.valueOf(l2Ttl.toMillis()).getBytes(StandardCharsets.US_ASCII)), null);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        Object stored = toStoreValue(value);
+        Object existing = l1.asMap().putIfAbsent(key, stored);
+        if (existing != null) {
+            return toValueWrapper(existing);
+        }
+        byte[] bytes = writeValue(stored);
+        if (bytes != null) {
+            l2Call(() -> l2.opsForValue().setIfAbsent(l2Key(key), bytes, l2Ttl), null);
+        }
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        l1.invalidate(key);
+        l2Call(() -> {
+            l2.opsForValue().set(l2Key(key), TOMBSTONE, tombstoneTtl);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = l1.asMap().remove(key) != null;
+        byte[] previous = l2Call(() -> l2.opsForValue().get(l2Key(key)), null);
+        evict(key);
+        return present || (previous != null && !Arrays.equals(previous, TOMBSTONE));
+    }
+
+    @Override
+    public void clear() {
+        l1.invalidateAll();
+        l2Call(() -> {
+            List<String> keys = new ArrayList<>();
+            try (Cursor<String> cursor = l2.scan(ScanOptions.scanOptions().match(keyPrefix + "*").count(1000).build())) {
+                cursor.forEachRemaining(keys::add);
+            }
+            if (!keys.isEmpty()) {
+                l2.delete(keys);
+            }
+            return null;
+        }, null);
+    }
+
+    private String l2Key(Object key) {
+        return keyPrefix + key;
+    }
+
+    private boolean isL2Available() {
+        return System.currentTimeMillis() >= l2SuspendedUntil;
+    }
+
+    /**
+     * L2 호출 실패는 캐시 미스로 취급하고, 일정 시간 L2 호출을 중단하여 요청 지연을 막는다.
+     */
+    private <T> T l2Call(Supplier<T> call, T fallback) {
+        if (!isL2Available()) {
+            return fallback;
+        }
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            l2Errors.increment();
+            l2SuspendedUntil = System.currentTimeMillis() + failureBackoffMs;
+            log.warn("L2 cache unavailable for {} (skipping for {}ms): {}", name, failureBackoffMs, e.getMessage());
+            return fallback;
+        }
+    }
+
+    private byte[] writeValue(Object stored) {
+        if (stored == NullValue.INSTANCE) {
+            return NULL_MARKER;
+        }
+        try {
+            return objectMapper.writeValueAsBytes(stored);
+        } catch (Exception e) {
+            log.warn("Failed to serialize {} entry for L2: {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private Object readValue(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, valueType);
+        } catch (Exception e) {
+            // 배포 중 DTO 구조가 바뀐 경우 등: 미스로 처리하고 새 값으로 덮어쓴다
+            log.warn("Failed to deserialize {} entry from L2: {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private static double ratio(Counter hits, Counter misses) {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0.0 : hits.count() / total;
+    }
+}
@@ -0,0 +1,79 @@
+package com.university.grade.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 기존 CaffeineCacheManager의 캐시를 L1으로 사용하고, L2 값 타입이 등록된 캐시만 TwoTierCache로 감싼다.
+ * 타입이 등록되지 않은 캐시는 L1만 사용한다.
+ */
+public class TwoTierCacheManager implements CacheManager {
+    private final CaffeineCacheManager l1CacheManager;
+    private final RedisTemplate<String, byte[]> l2;
+    private final ObjectMapper objectMapper;
+    private final Map<String, JavaType> l2ValueTypes;
+    private final String keyPrefix;
+    private final Duration l2Ttl;
+    private final Duration tombstoneTtl;
+    private final long failureBackoffMs;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CaffeineCacheManager l1CacheManager,
+                               RedisTemplate<String, byte[]> l2,
+                               ObjectMapper objectMapper,
+                               Map<String, JavaType> l2ValueTypes,
+                               String keyPrefix,
+                               Duration l2Ttl,
+                               Duration tombstoneTtl,
+                               long failureBackoffMs,
+                               MeterRegistry meterRegistry) {
+        this.l1CacheManager = l1CacheManager;
+        this.l2 = l2;
+        this.objectMapper = objectMapper;
+        this.l2ValueTypes = Map.copyOf(l2ValueTypes);
+        this.keyPrefix = keyPrefix;
+        this.l2Ttl = l2Ttl;
+        this.tombstoneTtl = tombstoneTtl;
+        this.failureBackoffMs = failureBackoffMs;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache l1Cache = l1CacheManager.getCache(name);
+        if (l1Cache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> {
+            JavaType valueType = l2ValueTypes.get(key);
+            if (valueType == null) {
+                return l1Cache;
+            }
+            return new TwoTierCache(key, ((CaffeineCache) l1Cache).getNativeCache(), l2, objectMapper, valueType,
+                    keyPrefix, l2Ttl, tombstoneTtl, failureBackoffMs,
+                    l1Cache instanceof CaffeineCache caffeine && caffeine.isAllowNullValues(), meterRegistry);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return l1CacheManager.getCacheNames();
+    }
+}
@@ -1,25 +1,185 @@
 package com.university.grade.config;
 
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.university.grade.cache.CacheEntryWeigher;
+import com.university.grade.cache.NegativeResultCache;
+import com.university.grade.cache.TwoTierCacheManager;
+import com.university.grade.dto.GradeDetailResponse;
+import com.university.grade.dto.GradeSummaryResponse;
+import com.university.grade.service.GradeQueryService;
+import com.university.grade.service.GradeResponseCache;
+import com.university.grade.service.GradeVersionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(GradeCacheProperties.class)
+@Slf4j
 public class CacheConfig {
+    public static final List<String> CACHE_NAMES = List.of("gradeSummary", "gradeList", "availableSemesters",
+            "gradeVersion", GradeResponseCache.SUMMARY_CACHE, GradeResponseCache.LIST_CACHE, NegativeResultCache.CACHE_NAME);
+
+    @Value("${grade.cache.l2.enabled:false}")
+    private boolean l2Enabled;
+
+    @Value("${grade.cache.l2.key-prefix:grade:cache:}")
+    private String l2KeyPrefix;
+
+    @Value("${grade.cache.l2.ttl:10m}")
+    private Duration l2Ttl;
+
+    @Value("${grade.cache.l2.tombstone-ttl:30s}")
+    private Duration l2TombstoneTtl;
+
+    @Value("${grade.cache.l2.failure-backoff-ms:5000}")
+    private long l2FailureBackoffMs;
+
+    @Value("${grade.cache.refresh-threads:2}")
+    private int refreshThreads;
 
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager("gradeSummary", "gradeList", "availableSemesters");
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(10000)
-                .expireAfterWrite(5, TimeUnit.MINUTES)
-                .recordStats());
-        return cacheManager;
+    public CacheManager cacheManager(GradeCacheProperties properties,
+                                     ObjectProvider<GradeQueryService> gradeQueryService,
+                                     ObjectProvider<GradeVersionService> gradeVersionService,
+                                     ObjectProvider<RedisConnectionFactory> redisConnectionFactory,
+                                     ObjectMapper objectMapper,
+                                     MeterRegistry meterRegistry) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(CACHE_NAMES.toArray(String[]::new)) {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                // LoadingCache라도 미스 시 로더를 직접 실행하지 않고 @Cacheable 메서드(single-flight)로 넘긴다.
+                // 로더는 refresh-after-write 백그라운드 갱신에만 사용된다.
+                return new CaffeineCache(name, cache, isAllowNullValues()) {
+                    @Override
+                    protected Object lookup(Object key) {
+                        return getNativeCache().getIfPresent(key);
+                    }
+                };
+            }
+        };
+
+        // refresh-ahead 로더: 캐시를 거치지 않는 GradeQueryService를 호출해야 캐시된 값을 다시 읽지 않는다.
+        // 서비스 빈은 CacheManager보다 늦게 생성되므로 로드 시점에 조회한다.
+        Map<String, CacheLoader<Object, Object>> loaders = Map.of(
+                "gradeSummary", studentSemesterLoader((id, semester) -> gradeQueryService.getObject().loadGradeSummary(id, semester)),
+                "gradeList", studentSemesterLoader((id, semester) -> gradeQueryService.getObject().loadGradeList(id, semester)),
+                "gradeVersion", studentSemesterLoader((id, semester) -> gradeVersionService.getObject().loadVersion(id, semester)),
+                "availableSemesters", key -> {
+                    List<String> semesters = gradeQueryService.getObject()
+                            .loadAvailableSemesters(Long.parseLong(key.toString().substring("semesters:".length())));
+                    // 빈 목록은 캐시하지 않는다 (@Cacheable unless 조건과 동일)
+                    return semesters == null || semesters.isEmpty() ? null : semesters;
+                });
+        Executor refreshExecutor = refreshExecutor(refreshThreads);
+
+        for (String name : CACHE_NAMES) {
+            GradeCacheProperties.Spec spec = properties.specFor(name);
+            Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+            if (spec.isWeighted()) {
+                builder.maximumWeight(spec.getMaximumWeight()).weigher(CacheEntryWeigher.INSTANCE);
+            } else {
+                builder.maximumSize(spec.getMaximum());
+            }
+            if (spec.getExpireAfterWrite() != null) {
+                builder.expireAfterWrite(spec.getExpireAfterWrite());
+            }
+
+            CacheLoader<Object, Object> loader = loaders.get(name);
+            if (spec.getRefreshAfterWrite() != null && loader != null) {
+                if (spec.getExpireAfterWrite() != null && spec.getRefreshAfterWrite().compareTo(spec.getExpireAfterWrite()) >= 0) {
+                    throw new IllegalStateException("grade.cache.specs." + name
+                            + ".refresh-after-write must be shorter than expire-after-write");
+                }
+                builder.refreshAfterWrite(spec.getRefreshAfterWrite()).executor(refreshExecutor);
+                cacheManager.registerCustomCache(name, builder.build(loader));
+            } else {
+                cacheManager.registerCustomCache(name, builder.build());
+            }
+            log.info("Cache '{}' - {}: {}, expireAfterWrite: {}, refreshAfterWrite: {}, perStudent: {}", name,
+                    spec.isWeighted() ? "maximumWeight" : "maximumSize", spec.getMaximum(),
+                    spec.getExpireAfterWrite(), loader != null ? spec.getRefreshAfterWrite() : null, spec.getPerStudent());
+        }
+
+        RedisConnectionFactory connectionFactory = redisConnectionFactory.getIfAvailable();
+        if (!l2Enabled || connectionFactory == null) {
+            return cacheManager;
+        }
+
+        // L2(Redis)에 저장할 캐시와 값 타입. 여기에 없는 캐시는 Pod 메모리(L1)만 사용한다.
+        TypeFactory types = objectMapper.getTypeFactory();
+        Map<String, JavaType> l2ValueTypes = Map.of(
+                "gradeSummary", types.constructType(GradeSummaryResponse.class),
+                "gradeList", types.constructCollectionType(List.class, GradeDetailResponse.class),
+                "availableSemesters", types.constructCollectionType(List.class, String.class),
+                "gradeVersion", types.constructType(LocalDateTime.class),
+                GradeResponseCache.SUMMARY_CACHE, types.constructType(GradeResponseCache.SerializedResponse.class),
+                GradeResponseCache.LIST_CACHE, types.constructType(GradeResponseCache.SerializedResponse.class));
+
+        log.info("Two-tier cache enabled - L2 caches: {}, ttl: {}", l2ValueTypes.keySet(), l2Ttl);
+        return new TwoTierCacheManager(cacheManager, l2Template(connectionFactory), objectMapper, l2ValueTypes,
+                l2KeyPrefix, l2Ttl, l2TombstoneTtl, l2FailureBackoffMs, meterRegistry);
+    }
+
+    /**
+     * "studentId:semester" 키를 분해하여 로드한다. null을 반환하면 캐시하지 않는다.
+     */
+    private static CacheLoader<Object, Object> studentSemesterLoader(StudentSemesterLoader loader) {
+        return key -> {
+            String value = key.toString();
+            int separator = value.indexOf(':');
+            return loader.load(Long.parseLong(value.substring(0, separator)), value.substring(separator + 1));
+        };
+    }
+
+    /**
+     * refresh 전용 스레드. 키마다 동시에 하나의 refresh만 실행되므로 큐는 자주 조회되는 키 수를 넘지 않는다.
+     */
+    private static Executor refreshExecutor(int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "cache-refresh-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static RedisTemplate<String, byte[]> l2Template(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    @FunctionalInterface
+    private interface StudentSemesterLoader {
+        Object load(Long studentId, String semester);
     }
 }
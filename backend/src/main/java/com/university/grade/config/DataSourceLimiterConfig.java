@@ -0,0 +1,97 @@
+package com.university.grade.config;
+
+import com.university.grade.datasource.AdaptiveConcurrencyLimit;
+import com.university.grade.datasource.ConcurrencyLimitedDataSource;
+import com.university.grade.datasource.ReadWriteRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * grade.db.limiter.enabled=true 일 때 DataSource를 ConcurrencyLimitedDataSource로 감싼다.
+ * 허가 수의 상한은 기본적으로 Hikari maximum-pool-size와 같다.
+ * mode=adaptive(기본)이면 커넥션 사용 시간이 평소보다 길어질 때 한도를 min-limit까지 줄였다가 회복되면 다시 늘리고,
+ * mode=fixed이면 상한을 그대로 허가 수로 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "grade.db.limiter.enabled", havingValue = "true")
+@Slf4j
+public class DataSourceLimiterConfig {
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(Environment environment,
+                                                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        return new LimiterPostProcessor(environment, meterRegistry);
+    }
+
+    /**
+     * 복제본 라우팅(HIGHEST_PRECEDENCE) 다음, 문장 수 집계(LOWEST_PRECEDENCE) 전에 감싼다.
+     */
+    private static class LimiterPostProcessor implements BeanPostProcessor, Ordered {
+        private final Environment environment;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        LimiterPostProcessor(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+            this.environment = environment;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE + 10;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                return bean;
+            }
+            int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+            int permits = environment.getProperty("grade.db.limiter.permits", Integer.class, 0);
+            int maxPermits = permits > 0 ? permits : poolSize;
+            if (permits <= 0 && dataSource instanceof ReadWriteRoutingDataSource routing) {
+                // 복제본 라우팅 사용 시 기본 허가 수는 primary + 복제본 풀 크기의 합
+                maxPermits = routing.getTotalPoolSize(poolSize);
+            }
+            int maxWaiting = environment.getProperty("grade.db.limiter.max-waiting", Integer.class, 200);
+            long acquireTimeoutMs = environment.getProperty("grade.db.limiter.acquire-timeout-ms", Long.class, 2000L);
+            long retryAfterSeconds = environment.getProperty("grade.db.limiter.retry-after-seconds", Long.class, 2L);
+            AdaptiveConcurrencyLimit limit = limit(environment, maxPermits);
+
+            log.info("DB concurrency limiter enabled for '{}' - mode: {}, permits: {}~{}, maxWaiting: {}, acquireTimeoutMs: {}",
+                    beanName, environment.getProperty("grade.db.limiter.mode", "adaptive"),
+                    limit.getLimit(), maxPermits, maxWaiting, acquireTimeoutMs);
+            return new ConcurrencyLimitedDataSource(dataSource, limit, maxWaiting,
+                    acquireTimeoutMs, retryAfterSeconds, meterRegistry.getObject());
+        }
+    }
+
+    private static AdaptiveConcurrencyLimit limit(Environment environment, int maxPermits) {
+        String mode = environment.getProperty("grade.db.limiter.mode", "adaptive");
+        if ("fixed".equalsIgnoreCase(mode)) {
+            return AdaptiveConcurrencyLimit.fixed(maxPermits);
+        }
+        if (!"adaptive".equalsIgnoreCase(mode)) {
+            throw new IllegalStateException("Unknown grade.db.limiter.mode: " + mode + " (expected fixed or adaptive)");
+        }
+        String prefix = "grade.db.limiter.adaptive.";
+        int initialLimit = environment.getProperty(prefix + "initial-limit", Integer.class, 0);
+        return AdaptiveConcurrencyLimit.gradient(
+                environment.getProperty(prefix + "min-limit", Integer.class, 2),
+                maxPermits,
+                initialLimit > 0 ? initialLimit : maxPermits,
+                environment.getProperty(prefix + "rtt-tolerance", Double.class, 2.0),
+                environment.getProperty(prefix + "smoothing", Double.class, 0.2),
+                environment.getProperty(prefix + "window-ms", Long.class, 500L),
+                environment.getProperty(prefix + "min-window-samples", Integer.class, 10),
+                environment.getProperty(prefix + "long-window-samples", Integer.class, 600));
+    }
+}
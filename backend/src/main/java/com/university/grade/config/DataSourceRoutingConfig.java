@@ -0,0 +1,105 @@
+package com.university.grade.config;
+
+import com.university.grade.datasource.ConcurrencyLimitedDataSource;
+import com.university.grade.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * grade.datasource.routing.enabled=true 일 때 기본 DataSource(primary)를 ReadWriteRoutingDataSource로 감싸고
+ * 복제본마다 별도 Hikari 풀(pool 이름 replica-N)을 만든다. Hikari 메트릭은 풀 이름 태그로 구분된다.
+ * DB 동시성 제한기(DataSourceLimiterConfig)보다 먼저 적용되어 제한기가 라우팅 전체를 감싼다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "grade.datasource.routing.enabled", havingValue = "true")
+@Slf4j
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public static BeanPostProcessor readWriteRoutingDataSourcePostProcessor(Environment environment,
+                                                                            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RoutingPostProcessor(environment, meterRegistry);
+    }
+
+    private static class RoutingPostProcessor implements BeanPostProcessor, Ordered {
+        private final Environment environment;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        RoutingPostProcessor(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+            this.environment = environment;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource primary) || bean instanceof ReadWriteRoutingDataSource
+                    || bean instanceof ConcurrencyLimitedDataSource) {
+                return bean;
+            }
+            DataSourceRoutingProperties properties = Binder.get(environment)
+                    .bind(DataSourceRoutingProperties.PREFIX, DataSourceRoutingProperties.class)
+                    .orElseGet(DataSourceRoutingProperties::new);
+            if (properties.getReplicas().isEmpty()) {
+                log.warn("Read/write routing is enabled but no replicas are configured - using '{}' only", beanName);
+                return bean;
+            }
+
+            MeterRegistry registry = meterRegistry.getObject();
+            // 감싼 뒤에는 Boot가 primary 풀을 찾지 못하므로 Hikari 메트릭을 여기서 연결한다
+            if (primary instanceof HikariDataSource hikari && hikari.getMetricRegistry() == null
+                    && hikari.getMetricsTrackerFactory() == null) {
+                hikari.setMetricRegistry(registry);
+            }
+
+            List<HikariDataSource> replicaPools = new ArrayList<>();
+            for (int i = 0; i < properties.getReplicas().size(); i++) {
+                replicaPools.add(replicaPool("replica-" + i, properties.getReplicas().get(i), registry));
+            }
+            log.info("Read/write routing enabled for '{}' - replicas: {}, maxLag: {}, lagCheckInterval: {}", beanName,
+                    replicaPools.stream().map(HikariDataSource::getJdbcUrl).toList(),
+                    properties.getMaxLag(), properties.getLagCheckInterval());
+            return new ReadWriteRoutingDataSource(primary, replicaPools, properties.getMaxLag(),
+                    properties.getLagCheckInterval(), registry);
+        }
+
+        private HikariDataSource replicaPool(String name, DataSourceRoutingProperties.Replica replica, MeterRegistry registry) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(name);
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setUsername(replica.getUsername() != null
+                    ? replica.getUsername() : environment.getProperty("spring.datasource.username"));
+            pool.setPassword(replica.getPassword() != null
+                    ? replica.getPassword() : environment.getProperty("spring.datasource.password"));
+            String driverClassName = environment.getProperty("spring.datasource.driver-class-name");
+            if (driverClassName != null) {
+                pool.setDriverClassName(driverClassName);
+            }
+            pool.setReadOnly(true);
+            pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+            pool.setMinimumIdle(Math.min(replica.getMinimumIdle(), replica.getMaximumPoolSize()));
+            pool.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+            // 복제본이 내려가 있어도 애플리케이션은 기동하고, 회복되면 lag 확인 후 다시 사용한다
+            pool.setInitializationFailTimeout(-1);
+            pool.setMetricRegistry(registry);
+            return pool;
+        }
+    }
+}
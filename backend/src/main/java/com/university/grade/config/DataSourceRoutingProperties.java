@@ -0,0 +1,39 @@
+package com.university.grade.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 트랜잭션을 MySQL 복제본으로 보내는 라우팅 설정 (grade.datasource.routing).
+ * DataSource 후처리 단계에서 Binder로 읽으므로 @ConfigurationProperties 빈으로 등록하지 않는다.
+ */
+@Getter
+@Setter
+public class DataSourceRoutingProperties {
+    public static final String PREFIX = "grade.datasource.routing";
+
+    private boolean enabled;
+    // 복제 지연이 이보다 크면 해당 복제본을 제외하고 primary로 보낸다
+    private Duration maxLag = Duration.ofSeconds(5);
+    private Duration lagCheckInterval = Duration.ofSeconds(2);
+    // 캐시 무효화 직후 이 시간 동안은 해당 학생의 조회를 primary에서 읽는다 (지연된 복제본 값으로 캐시를 채우지 않도록)
+    private Duration pinPrimaryAfterWrite = Duration.ofSeconds(10);
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        // 지정하지 않으면 spring.datasource.username/password 사용
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+        private int minimumIdle = 2;
+        // 복제본 장애 시 빨리 primary로 넘어가도록 primary보다 짧게 둔다
+        private Duration connectionTimeout = Duration.ofSeconds(2);
+    }
+}
@@ -0,0 +1,30 @@
+package com.university.grade.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+
+/**
+ * 로컬 개발/검증용 내장 Redis 서버 (local-l2 프로필).
+ * embedded-redis는 developmentOnly 의존성이므로 bootRun에서만 사용할 수 있고, 운영 JAR에는 포함되지 않는다.
+ */
+@Configuration
+@ConditionalOnClass(name = "redis.embedded.RedisServer")
+@ConditionalOnProperty(name = "grade.cache.l2.embedded", havingValue = "true")
+@Slf4j
+public class EmbeddedRedisConfig {
+
+    @Bean(destroyMethod = "stop")
+    public RedisServer embeddedRedisServer(@Value("${spring.data.redis.port:6379}") int port) throws IOException {
+        RedisServer server = new RedisServer(port);
+        server.start();
+        log.info("Embedded Redis server started on port {}", port);
+        return server;
+    }
+}
@@ -0,0 +1,58 @@
+package com.university.grade.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 캐시별 크기/가중치/TTL/refresh 정책 (grade.cache.specs.<캐시 이름>).
+ * 지정하지 않은 항목은 grade.cache.default-spec 값을 사용한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "grade.cache")
+public class GradeCacheProperties {
+    private Spec defaultSpec = new Spec();
+    private Map<String, Spec> specs = new HashMap<>();
+
+    public Spec specFor(String cacheName) {
+        // 환경 변수로 지정하면 키가 소문자로 바인딩되므로 대소문자를 구분하지 않는다
+        Spec spec = specs.entrySet().stream()
+                .filter(entry -> entry.getKey().equalsIgnoreCase(cacheName))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElseGet(Spec::new);
+        Spec merged = new Spec();
+        merged.setMaximumSize(spec.getMaximumSize() != null ? spec.getMaximumSize() : defaultSpec.getMaximumSize());
+        merged.setMaximumWeight(spec.getMaximumWeight() != null ? spec.getMaximumWeight() : defaultSpec.getMaximumWeight());
+        merged.setExpireAfterWrite(spec.getExpireAfterWrite() != null ? spec.getExpireAfterWrite() : defaultSpec.getExpireAfterWrite());
+        merged.setRefreshAfterWrite(spec.getRefreshAfterWrite() != null ? spec.getRefreshAfterWrite() : defaultSpec.getRefreshAfterWrite());
+        merged.setPerStudent(spec.getPerStudent() != null ? spec.getPerStudent() : defaultSpec.getPerStudent());
+        return merged;
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+        private Long maximumSize;
+        // 지정하면 maximumSize 대신 항목 가중치(목록 길이, 바이트 수)의 합으로 제한
+        private Long maximumWeight;
+        private Duration expireAfterWrite;
+        // 지정하면 이 시간이 지난 항목은 조회 시 기존 값을 반환하고 백그라운드에서 다시 로드
+        private Duration refreshAfterWrite;
+        // 학생 1명당 크기(또는 가중치). 0보다 크면 학생 수 x perStudent 까지 최대 크기를 늘림
+        private Double perStudent;
+
+        public boolean isWeighted() {
+            return maximumWeight != null;
+        }
+
+        public long getMaximum() {
+            return isWeighted() ? maximumWeight : (maximumSize != null ? maximumSize : 10000L);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.university.grade.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.university.grade.cache.TwoTierCache;
+import com.university.grade.datasource.StatementCountingDataSource;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * /actuator/prometheus로 내보내는 핫 패스 메트릭 연결.
+ * - Caffeine 통계(cache_gets/puts/evictions/load): Boot는 CaffeineCache만 연결하므로 L2 사용 시의 TwoTierCache도 L1 통계를 연결한다.
+ * - 요청당 SQL 문 수: DataSource를 StatementCountingDataSource로 감싸고 StatementCountFilter가 요청마다 기록한다.
+ * 엔드포인트별 지연 시간(http_server_requests), Hikari 커넥션 대기(hikaricp_connections_acquire)의 SLO 버킷은
+ * application.yml의 management.metrics.distribution에서 설정한다.
+ */
+@Configuration
+@Slf4j
+public class MetricsConfig {
+
+    @Bean
+    public CacheMeterBinderProvider<TwoTierCache> twoTierCacheMeterBinderProvider() {
+        // 람다는 제네릭 타입을 알 수 없어 Boot가 모든 캐시에 호출하므로 클래스로 구현한다
+        return new TwoTierCacheMeterBinderProvider();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "grade.metrics.statements.enabled", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new StatementCountingPostProcessor();
+    }
+
+    private static class TwoTierCacheMeterBinderProvider implements CacheMeterBinderProvider<TwoTierCache> {
+        @Override
+        @SuppressWarnings("unchecked")
+        public MeterBinder getMeterBinder(TwoTierCache cache, Iterable<Tag> tags) {
+            return new CaffeineCacheMetrics<>((Cache<Object, Object>) cache.getNativeCache(), cache.getName(), tags);
+        }
+    }
+
+    /**
+     * 복제본 라우팅과 DB 동시성 제한기보다 바깥에서 감싸 복제본으로 간 조회와 세션 저장소의 SQL도 함께 센다.
+     */
+    private static class StatementCountingPostProcessor implements BeanPostProcessor, Ordered {
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof StatementCountingDataSource) {
+                return bean;
+            }
+            log.info("Counting SQL statements per request on '{}'", beanName);
+            return new StatementCountingDataSource(dataSource);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.university.grade.config;
 
+import com.university.grade.session.SessionMode;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -20,7 +21,7 @@ import java.util.List;
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, SessionMode sessionMode) throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
@@ -29,8 +30,11 @@ public class SecurityConfig {
                 .requestMatchers("/**").permitAll()
                 .anyRequest().permitAll()
             )
+            // 토큰 세션 모드에서는 HttpSession을 만들거나 읽지 않음
             .sessionManagement(session -> session
-                .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED)
+                .sessionCreationPolicy(sessionMode.isToken()
+                        ? SessionCreationPolicy.STATELESS
+                        : SessionCreationPolicy.IF_REQUIRED)
             );
         
         return http.build();
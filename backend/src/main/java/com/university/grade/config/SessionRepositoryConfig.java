@@ -0,0 +1,54 @@
+package com.university.grade.config;
+
+import com.university.grade.session.CoalescingSessionRepository;
+import com.university.grade.session.SessionDeletionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+
+import java.time.Duration;
+
+/**
+ * JDBC 세션 모드에서 세션 조회/LAST_ACCESS_TIME 갱신을 Pod 메모리에서 모아 처리하도록
+ * Spring Session JDBC 리포지토리를 감싼다.
+ * SessionRepository 빈을 따로 등록하면 Boot의 세션 자동 설정이 JdbcIndexedSessionRepository를 만들지 않으므로,
+ * Boot가 만든 리포지토리를 BeanPostProcessor로 감싼다.
+ */
+@Configuration
+@ConditionalOnExpression("'${grade.session.mode:jdbc}' == 'jdbc' and ${grade.session.jdbc.write-coalescing.enabled:true}")
+public class SessionRepositoryConfig {
+
+    @Bean
+    public static BeanPostProcessor coalescingSessionRepositoryPostProcessor(Environment environment,
+                                                                             ObjectProvider<MeterRegistry> meterRegistry,
+                                                                             ObjectProvider<SessionDeletionService> deletions) {
+        return new BeanPostProcessor() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof JdbcIndexedSessionRepository jdbcSessionRepository)) {
+                    return bean;
+                }
+                Duration sessionTimeout = environment.getProperty("spring.session.timeout", Duration.class, Duration.ofMinutes(30));
+                Duration staleness = environment.getProperty("grade.session.jdbc.staleness", Duration.class, Duration.ofSeconds(30));
+                Duration writeInterval = environment.getProperty("grade.session.jdbc.write-interval", Duration.class, Duration.ofSeconds(60));
+                long maximumSize = environment.getProperty("grade.session.jdbc.maximum-size", Long.class, 50000L);
+                // 만료 정리 작업이 사용 중인 세션을 지우지 않도록 쓰기 지연은 세션 타임아웃의 절반 미만으로 제한
+                if (writeInterval.multipliedBy(2).compareTo(sessionTimeout) >= 0) {
+                    throw new IllegalStateException("grade.session.jdbc.write-interval must be less than half of spring.session.timeout");
+                }
+                FindByIndexNameSessionRepository<Session> delegate =
+                        (FindByIndexNameSessionRepository<Session>) (FindByIndexNameSessionRepository<?>) jdbcSessionRepository;
+                return new CoalescingSessionRepository<>(delegate, staleness, writeInterval, maximumSize,
+                        meterRegistry.getObject(), deletions.getObject());
+            }
+        };
+    }
+}
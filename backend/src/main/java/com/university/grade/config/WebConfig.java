@@ -1,7 +1,9 @@
 package com.university.grade.config;
 
-import org.springframework.beans.factory.annotation.Value;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
 import org.springframework.core.io.Resource;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
@@ -11,15 +13,15 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
-
-    @Value("${spring.profiles.active:default}")
-    private String activeProfile;
+    private final Environment environment;
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // 프로덕션 환경에서는 JAR 내부의 static 리소스 사용
-        if ("prod".equals(activeProfile)) {
+        // prod,stateless 처럼 여러 프로필이 함께 활성화될 수 있으므로 포함 여부로 판단
+        if (environment.acceptsProfiles(Profiles.of("prod"))) {
             registry.addResourceHandler("/login/**")
                     .addResourceLocations("classpath:/static/login/");
             
@@ -2,8 +2,12 @@ package com.university.grade.controller;
 
 import com.university.grade.dto.LoginRequest;
 import com.university.grade.dto.LoginResponse;
+import com.university.grade.exception.ServiceOverloadedException;
 import com.university.grade.service.AuthService;
-import jakarta.servlet.http.HttpSession;
+import com.university.grade.session.SessionClaims;
+import com.university.grade.session.SessionManager;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -15,35 +19,42 @@ import org.springframework.web.bind.annotation.*;
 @Slf4j
 public class AuthController {
     private final AuthService authService;
+    private final SessionManager sessionManager;
 
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request, HttpSession session) {
+    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request,
+                                               HttpServletRequest httpRequest,
+                                               HttpServletResponse httpResponse) {
         try {
             LoginResponse response = authService.login(request);
             
             log.info("Login successful - userId: {}, studentId: {}, role: {}", 
                     response.getUserId(), response.getStudentId(), response.getRole());
             
-            // 세션에 사용자 정보 저장
-            session.setAttribute("userId", response.getUserId());
-            session.setAttribute("studentId", response.getStudentId());
-            session.setAttribute("role", response.getRole());
+            // 세션에 사용자 정보 저장 (세션 모드에 따라 JDBC 세션 또는 서명된 토큰 쿠키)
+            sessionManager.establish(httpRequest, httpResponse, SessionClaims.builder()
+                    .userId(response.getUserId())
+                    .studentId(response.getStudentId())
+                    .role(response.getRole())
+                    .build());
             
-            log.debug("Session attributes set - userId: {}, studentId: {}, role: {}", 
-                    session.getAttribute("userId"), 
-                    session.getAttribute("studentId"), 
-                    session.getAttribute("role"));
+            log.debug("Session established - userId: {}, studentId: {}, role: {}", 
+                    response.getUserId(), response.getStudentId(), response.getRole());
             
             return ResponseEntity.ok(response);
+        } catch (ServiceOverloadedException e) {
+            // 503 + Retry-After 응답은 GlobalExceptionHandler에서 처리
+            throw e;
         } catch (Exception e) {
+            ServiceOverloadedException.rethrowIfCause(e);
             log.error("Login failed: {}", e.getMessage());
             throw new RuntimeException(e.getMessage());
         }
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(HttpSession session) {
-        session.invalidate();
+    public ResponseEntity<Void> logout(HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
+        sessionManager.invalidate(httpRequest, httpResponse);
         return ResponseEntity.ok().build();
     }
 }
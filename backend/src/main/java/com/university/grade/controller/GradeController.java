@@ -1,16 +1,27 @@
 package com.university.grade.controller;
 
-import com.university.grade.dto.GradeDetailResponse;
-import com.university.grade.dto.GradeSummaryResponse;
+import com.university.grade.dto.GradeDashboardResponse;
+import com.university.grade.exception.ServiceOverloadedException;
+import com.university.grade.service.GradeDashboardService;
 import com.university.grade.service.GradeInquiryService;
-import jakarta.servlet.http.HttpSession;
+import com.university.grade.service.GradeResponseCache;
+import com.university.grade.service.GradeVersionService;
+import com.university.grade.session.SessionManager;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1/grades")
@@ -18,36 +29,27 @@ import java.util.List;
 @Slf4j
 public class GradeController {
     private final GradeInquiryService gradeInquiryService;
+    private final GradeDashboardService gradeDashboardService;
+    private final GradeVersionService gradeVersionService;
+    private final GradeResponseCache gradeResponseCache;
+    private final SessionManager sessionManager;
+
+    // 브라우저가 매번 재검증하도록 하고(If-None-Match), 공유 캐시에는 저장하지 않음
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
 
     @GetMapping("/semesters")
     public ResponseEntity<List<String>> getAvailableSemesters(
             @RequestHeader(value = "X-Student-Id", required = false) String studentIdHeader,
-            HttpSession session) {
-        
-        log.info("getAvailableSemesters called - sessionId: {}, X-Student-Id header: {}", 
-                session.getId(), studentIdHeader);
-        
-        // 세션에서 studentId 가져오기 (우선순위 1)
-        Long studentId = (Long) session.getAttribute("studentId");
-        log.info("studentId from session: {}", studentId);
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse,
+            WebRequest webRequest) {
         
-        // 세션에 없으면 헤더에서 가져오기 (우선순위 2)
-        if (studentId == null && studentIdHeader != null) {
-            try {
-                studentId = Long.parseLong(studentIdHeader);
-                log.info("studentId from header (parsed): {}", studentId);
-            } catch (NumberFormatException e) {
-                log.warn("Invalid studentId header format: {}", studentIdHeader);
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-            }
-        }
+        // 세션에서 studentId 가져오기 (우선순위 1), 없으면 헤더 (우선순위 2)
+        Long studentId = sessionManager.resolveStudentId(httpRequest, httpResponse, studentIdHeader);
+        log.info("getAvailableSemesters called - X-Student-Id header: {}, resolved studentId: {}", 
+                studentIdHeader, studentId);
         
         if (studentId == null) {
-            log.error("studentId is null - session attributes: userId={}, studentId={}, role={}, allAttributes={}", 
-                    session.getAttribute("userId"), 
-                    session.getAttribute("studentId"), 
-                    session.getAttribute("role"),
-                    java.util.Collections.list(session.getAttributeNames()));
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         
@@ -56,8 +58,16 @@ public class GradeController {
         try {
             List<String> semesters = gradeInquiryService.getAvailableSemesters(studentId);
             log.info("Available semesters for studentId {}: {}", studentId, semesters);
-            return ResponseEntity.ok(semesters != null ? semesters : List.of());
+            semesters = semesters != null ? semesters : List.of();
+
+            // 학기 목록은 캐시된 리스트의 해시로 검증 (직렬화 없이 304 응답)
+            String eTag = GradeVersionService.entityTag(studentId, semesters);
+            if (webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+            return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(eTag).body(semesters);
         } catch (Exception e) {
+            ServiceOverloadedException.rethrowIfCause(e);
             log.error("Failed to get available semesters for studentId {}: {}", studentId, e.getMessage(), e);
             // 에러가 발생해도 빈 리스트를 반환하여 프론트엔드에서 처리할 수 있도록 함
             return ResponseEntity.ok(List.of());
@@ -65,21 +75,15 @@ public class GradeController {
     }
 
     @GetMapping("/summary")
-    public ResponseEntity<GradeSummaryResponse> getGradeSummary(
+    public ResponseEntity<byte[]> getGradeSummary(
             @RequestParam String semester,
             @RequestHeader(value = "X-Student-Id", required = false) String studentIdHeader,
-            HttpSession session) {
-        
-        // 세션에서 studentId 가져오기
-        Long studentId = (Long) session.getAttribute("studentId");
-        if (studentId == null && studentIdHeader != null) {
-            try {
-                studentId = Long.parseLong(studentIdHeader);
-            } catch (NumberFormatException e) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-            }
-        }
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse,
+            WebRequest webRequest) {
         
+        // 세션에서 studentId 가져오기 (없으면 헤더)
+        Long studentId = sessionManager.resolveStudentId(httpRequest, httpResponse, studentIdHeader);
         if (studentId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
@@ -89,31 +93,35 @@ public class GradeController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
+        // 버전이 같으면 DTO를 만들지 않고 304 응답
+        Optional<LocalDateTime> version = gradeVersionService.getVersion(studentId, semester);
+        if (version.isPresent() && webRequest.checkNotModified(
+                GradeVersionService.entityTag("sum-" + studentId, version.get()), GradeVersionService.toEpochMillis(version.get()))) {
+            return null;
+        }
+
         try {
-            GradeSummaryResponse response = gradeInquiryService.getGradeSummary(studentId, semester);
-            return ResponseEntity.ok(response);
+            // 직렬화된 JSON 캐시 (미스일 때만 DTO 캐시 -> 직렬화)
+            GradeResponseCache.SerializedResponse response = gradeResponseCache.get(GradeResponseCache.SUMMARY_CACHE,
+                    studentId, semester, () -> gradeInquiryService.getGradeSummary(studentId, semester));
+            return serialized(withValidators(ResponseEntity.ok(), "sum-" + studentId, version), response, httpRequest);
         } catch (Exception e) {
+            ServiceOverloadedException.rethrowIfCause(e);
             log.error("Failed to get grade summary: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
     @GetMapping("/list")
-    public ResponseEntity<List<GradeDetailResponse>> getGradeList(
+    public ResponseEntity<byte[]> getGradeList(
             @RequestParam String semester,
             @RequestHeader(value = "X-Student-Id", required = false) String studentIdHeader,
-            HttpSession session) {
-        
-        // 세션에서 studentId 가져오기
-        Long studentId = (Long) session.getAttribute("studentId");
-        if (studentId == null && studentIdHeader != null) {
-            try {
-                studentId = Long.parseLong(studentIdHeader);
-            } catch (NumberFormatException e) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-            }
-        }
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse,
+            WebRequest webRequest) {
         
+        // 세션에서 studentId 가져오기 (없으면 헤더)
+        Long studentId = sessionManager.resolveStudentId(httpRequest, httpResponse, studentIdHeader);
         if (studentId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
@@ -123,12 +131,80 @@ public class GradeController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
+        // 버전이 같으면 DTO 목록을 만들지 않고 304 응답
+        Optional<LocalDateTime> version = gradeVersionService.getVersion(studentId, semester);
+        if (version.isPresent() && webRequest.checkNotModified(
+                GradeVersionService.entityTag("list-" + studentId, version.get()), GradeVersionService.toEpochMillis(version.get()))) {
+            return null;
+        }
+
         try {
-            List<GradeDetailResponse> response = gradeInquiryService.getGradeList(studentId, semester);
-            return ResponseEntity.ok(response);
+            GradeResponseCache.SerializedResponse response = gradeResponseCache.get(GradeResponseCache.LIST_CACHE,
+                    studentId, semester, () -> gradeInquiryService.getGradeList(studentId, semester));
+            return serialized(withValidators(ResponseEntity.ok(), "list-" + studentId, version), response, httpRequest);
         } catch (Exception e) {
+            ServiceOverloadedException.rethrowIfCause(e);
             log.error("Failed to get grade list: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    /**
+     * 학기 목록 + 선택(또는 최근 공개) 학기의 요약 + 성적 목록을 한 번의 요청으로 반환한다.
+     */
+    @GetMapping("/dashboard")
+    public ResponseEntity<GradeDashboardResponse> getDashboard(
+            @RequestParam(required = false) String semester,
+            @RequestHeader(value = "X-Student-Id", required = false) String studentIdHeader,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse,
+            WebRequest webRequest) {
+        
+        // 세션에서 studentId 가져오기 (없으면 헤더)
+        Long studentId = sessionManager.resolveStudentId(httpRequest, httpResponse, studentIdHeader);
+        if (studentId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        try {
+            String eTag = gradeDashboardService.getEntityTag(studentId, semester);
+            if (eTag != null && webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(REVALIDATE);
+            if (eTag != null) {
+                builder.eTag(eTag);
+            }
+            return builder.body(gradeDashboardService.getDashboard(studentId, semester));
+        } catch (Exception e) {
+            ServiceOverloadedException.rethrowIfCause(e);
+            log.error("Failed to get grade dashboard: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    private ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder builder, String prefix,
+                                                      Optional<LocalDateTime> version) {
+        builder.cacheControl(REVALIDATE);
+        version.ifPresent(v -> builder
+                .eTag(GradeVersionService.entityTag(prefix, v))
+                .lastModified(GradeVersionService.toEpochMillis(v)));
+        return builder;
+    }
+
+    /**
+     * 캐시된 바이트를 그대로 응답 본문으로 사용한다 (ByteArrayHttpMessageConverter가 스트림에 복사).
+     */
+    private ResponseEntity<byte[]> serialized(ResponseEntity.BodyBuilder builder,
+                                              GradeResponseCache.SerializedResponse response,
+                                              HttpServletRequest httpRequest) {
+        builder.contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (response.useGzip(httpRequest.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(response.gzip().length)
+                    .body(response.gzip());
+        }
+        return builder.contentLength(response.json().length).body(response.json());
+    }
 }
@@ -2,8 +2,12 @@ package com.university.grade.controller;
 
 import com.university.grade.dto.ObjectionRequest;
 import com.university.grade.dto.ObjectionResponse;
+import com.university.grade.exception.ServiceOverloadedException;
+import com.university.grade.service.ObjectionIntakeService;
 import com.university.grade.service.ObjectionService;
-import jakarta.servlet.http.HttpSession;
+import com.university.grade.session.SessionManager;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -16,39 +20,62 @@ import org.springframework.web.bind.annotation.*;
 @Slf4j
 public class ObjectionController {
     private final ObjectionService objectionService;
+    private final ObjectionIntakeService objectionIntakeService;
+    private final SessionManager sessionManager;
 
     @PostMapping
     public ResponseEntity<ObjectionResponse> createObjection(
             @RequestBody ObjectionRequest request,
             @RequestHeader(value = "X-Student-Id", required = false) String studentIdHeader,
-            HttpSession session) {
-        
-        // 세션에서 studentId 가져오기
-        Long studentId = (Long) session.getAttribute("studentId");
-        if (studentId == null && studentIdHeader != null) {
-            try {
-                studentId = Long.parseLong(studentIdHeader);
-            } catch (NumberFormatException e) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-            }
-        }
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
         
+        // 세션에서 studentId 가져오기 (없으면 헤더)
+        Long studentId = sessionManager.resolveStudentId(httpRequest, httpResponse, studentIdHeader);
         if (studentId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
         try {
+            if (objectionIntakeService.isEnabled()) {
+                // 접수 번호만 바로 반환하고 저장은 백그라운드 배치로 처리 (상태는 /tickets/{ticketId})
+                return ResponseEntity.status(HttpStatus.ACCEPTED)
+                        .body(objectionIntakeService.submit(studentId, request));
+            }
             ObjectionResponse response = objectionService.createObjection(studentId, request);
             return ResponseEntity.ok(response);
         } catch (RuntimeException e) {
+            ServiceOverloadedException.rethrowIfCause(e);
             log.error("Failed to create objection: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(ObjectionResponse.builder()
                             .message(e.getMessage())
                             .build());
         } catch (Exception e) {
+            ServiceOverloadedException.rethrowIfCause(e);
             log.error("Failed to create objection: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    @GetMapping("/tickets/{ticketId}")
+    public ResponseEntity<ObjectionResponse> getTicketStatus(
+            @PathVariable String ticketId,
+            @RequestHeader(value = "X-Student-Id", required = false) String studentIdHeader,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
+
+        Long studentId = sessionManager.resolveStudentId(httpRequest, httpResponse, studentIdHeader);
+        if (studentId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return objectionIntakeService.getStatus(studentId, ticketId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ObjectionResponse.builder()
+                                .ticketId(ticketId)
+                                .message("접수 번호를 찾을 수 없습니다.")
+                                .build()));
+    }
 }
@@ -0,0 +1,130 @@
+package com.university.grade.datasource;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 관측한 DB 사용 시간(커넥션을 얻은 뒤 반납할 때까지)으로 동시 사용 한도를 조정한다 (gradient 방식).
+ * 평소 지연(long RTT, 지수 이동 평균)보다 최근 구간 지연(short RTT)이 커지면 비율만큼 한도를 줄이고,
+ * 지연이 평소 수준이면 sqrt(limit)만큼씩 늘린다. 한도는 [min-limit, max-limit] 안에서 움직인다.
+ * Pod 수가 늘어 MySQL이 느려지면 Pod마다 한도가 줄어 전체 동시 쿼리 수가 풀 크기 x Pod 수보다 작아진다.
+ */
+public class AdaptiveConcurrencyLimit {
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final long windowNanos;
+    private final int minWindowSamples;
+    private final double longRttFactor;
+    private final boolean adaptive;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile double limit;
+    private volatile double longRttNanos;
+    private volatile double lastShortRttNanos;
+
+    // 현재 구간의 표본
+    private long windowStart = System.nanoTime();
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+
+    private AdaptiveConcurrencyLimit(int minLimit, int maxLimit, int initialLimit, double rttTolerance,
+                                     double smoothing, long windowMillis, int minWindowSamples,
+                                     int longWindowSamples, boolean adaptive) {
+        this.minLimit = Math.max(1, Math.min(minLimit, maxLimit));
+        this.maxLimit = Math.max(1, maxLimit);
+        this.rttTolerance = Math.max(1.0, rttTolerance);
+        this.smoothing = Math.min(1.0, Math.max(0.01, smoothing));
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.minWindowSamples = Math.max(1, minWindowSamples);
+        this.longRttFactor = 2.0 / (Math.max(1, longWindowSamples) + 1);
+        this.adaptive = adaptive;
+        this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, initialLimit));
+    }
+
+    public static AdaptiveConcurrencyLimit fixed(int limit) {
+        return new AdaptiveConcurrencyLimit(limit, limit, limit, 1.0, 1.0, 0, 1, 1, false);
+    }
+
+    public static AdaptiveConcurrencyLimit gradient(int minLimit, int maxLimit, int initialLimit, double rttTolerance,
+                                                    double smoothing, long windowMillis, int minWindowSamples,
+                                                    int longWindowSamples) {
+        return new AdaptiveConcurrencyLimit(minLimit, maxLimit, initialLimit, rttTolerance, smoothing,
+                windowMillis, minWindowSamples, longWindowSamples, true);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public double getLongRttNanos() {
+        return longRttNanos;
+    }
+
+    public double getShortRttNanos() {
+        return lastShortRttNanos;
+    }
+
+    /**
+     * 커넥션 반납 시 호출한다.
+     *
+     * @param rttNanos  커넥션을 사용한 시간
+     * @param inFlight  반납 직전 사용 중이던 커넥션 수
+     * @return 한도가 늘어났으면 true (대기자를 더 깨워야 함)
+     */
+    public boolean onSample(long rttNanos, int inFlight) {
+        if (!adaptive || !lock.tryLock()) {
+            // 다른 스레드가 갱신 중이면 이번 표본은 버린다 (반납 경로를 막지 않음)
+            return false;
+        }
+        try {
+            windowRttSum += rttNanos;
+            windowSamples++;
+            windowMaxInFlight = Math.max(windowMaxInFlight, inFlight);
+
+            long now = System.nanoTime();
+            if (windowSamples < minWindowSamples || now - windowStart < windowNanos) {
+                return false;
+            }
+            double shortRtt = (double) windowRttSum / windowSamples;
+            int maxInFlight = windowMaxInFlight;
+            windowStart = now;
+            windowRttSum = 0;
+            windowSamples = 0;
+            windowMaxInFlight = 0;
+            return update(shortRtt, maxInFlight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean update(double shortRtt, int maxInFlight) {
+        lastShortRttNanos = shortRtt;
+        double longRtt = longRttNanos == 0 ? shortRtt : longRttNanos + (shortRtt - longRttNanos) * longRttFactor;
+        // 부하가 사라진 뒤에도 높은 평소 지연이 남지 않도록, 최근 지연이 충분히 낮아지면 빠르게 따라 내려간다
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        longRttNanos = longRtt;
+
+        double current = limit;
+        // 한도까지 쓰지도 않은 구간에서는 늘리지 않는다 (지연이 낮은 것이 한도 덕분인지 알 수 없음)
+        if (maxInFlight < current / 2 && shortRtt <= longRtt * rttTolerance) {
+            return false;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / shortRtt));
+        double queueSize = Math.sqrt(current);
+        double target = current * gradient + queueSize;
+        double next = current * (1 - smoothing) + target * smoothing;
+        next = Math.max(minLimit, Math.min(maxLimit, next));
+        limit = next;
+        return (int) next > (int) current;
+    }
+}
@@ -0,0 +1,284 @@
+package com.university.grade.datasource;
+
+import com.university.grade.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 허가(permit) 수로 DB 동시 사용을 제한하는 DataSource.
+ * 커넥션을 얻을 때 허가를 받고 close() 할 때 반납한다.
+ * 대기자가 max-waiting을 넘거나 acquire-timeout 안에 허가를 받지 못하면 즉시 503으로 거절하여,
+ * DB가 느려져도 요청 스레드(가상 스레드)가 무한히 쌓이지 않고 캐시 응답은 계속 처리된다.
+ * 허가 수는 고정값이거나, AdaptiveConcurrencyLimit이 커넥션 사용 시간을 보고 조정한 값이다.
+ * 한도 조정에는 startSampling()을 호출한 스레드(요청 스레드)의 커넥션 사용 시간만 반영한다.
+ * 백그라운드 작업(GPA 재계산, 이의신청 배치, 동기화 등)은 트랜잭션 하나에 커넥션을 오래 쥐고 있어
+ * MySQL이 느려지지 않아도 한도를 min-limit까지 끌어내리기 때문이다 (허가는 똑같이 받고 반납한다).
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource implements DisposableBean {
+    private static final ThreadLocal<Boolean> SAMPLING = new ThreadLocal<>();
+
+    private final AdaptiveConcurrencyLimit limit;
+    private final int maxWaiting;
+    private final long acquireTimeoutMs;
+    private final long retryAfterSeconds;
+
+    // 공정성: 대기자가 있으면 새 요청은 한도가 남아 있어도 뒤에 줄을 선다
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition permitAvailable = lock.newCondition();
+    private int inFlight;
+    private volatile int waiting;
+    // 허가 대기 시간의 지수 이동 평균 (부하 차단 필터의 큐 지연 신호)
+    private volatile double queueLatencyNanos;
+
+    private final Timer waitTimer;
+    private final Timer leaseTimer;
+    private final Counter rejected;
+
+    public ConcurrencyLimitedDataSource(DataSource target,
+                                        AdaptiveConcurrencyLimit limit,
+                                        int maxWaiting,
+                                        long acquireTimeoutMs,
+                                        long retryAfterSeconds,
+                                        MeterRegistry meterRegistry) {
+        super(target);
+        this.limit = limit;
+        this.maxWaiting = maxWaiting;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        Gauge.builder("db.limiter.permits.available", this, ds -> Math.max(0, ds.limit.getLimit() - ds.inFlight))
+                .description("Free DB permits")
+                .register(meterRegistry);
+        Gauge.builder("db.limiter.waiting", this, ds -> ds.waiting)
+                .description("Threads waiting for a DB permit")
+                .register(meterRegistry);
+        Gauge.builder("db.limiter.inflight", this, ds -> ds.inFlight)
+                .description("Connections currently held through the limiter")
+                .register(meterRegistry);
+        Gauge.builder("db.limiter.permits.max", limit, AdaptiveConcurrencyLimit::getMaxLimit)
+                .description("Upper bound of the DB concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("db.limiter.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .description("Current DB concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("db.limiter.rtt.long", limit, l -> l.getLongRttNanos() / 1_000_000.0)
+                .description("Smoothed connection lease time of request threads in milliseconds (baseline)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("db.limiter.rtt.short", limit, l -> l.getShortRttNanos() / 1_000_000.0)
+                .description("Average connection lease time of request threads in the last sample window in milliseconds")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("db.limiter.wait")
+                .description("Time spent waiting for a DB permit")
+                .register(meterRegistry);
+        this.leaseTimer = Timer.builder("db.limiter.lease")
+                .description("Time a connection was held between acquire and close")
+                .register(meterRegistry);
+        this.rejected = meterRegistry.counter("db.limiter.rejected");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return wrap(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            release(-1);
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return wrap(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            release(-1);
+            throw e;
+        }
+    }
+
+    /**
+     * 감싼 DataSource(Hikari 풀, 라우팅 DataSource)는 컨테이너가 종료 메서드를 찾지 못하므로 대신 닫는다.
+     */
+    @Override
+    public void destroy() throws Exception {
+        DataSource target = getTargetDataSource();
+        if (target instanceof DisposableBean disposable) {
+            disposable.destroy();
+        } else if (target instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void acquire() {
+        lock.lock();
+        try {
+            if (waiting == 0 && inFlight < limit.getLimit()) {
+                inFlight++;
+                recordQueueLatency(0);
+                return;
+            }
+            if (waiting >= maxWaiting) {
+                rejected.increment();
+                throw overloaded();
+            }
+
+            long start = System.nanoTime();
+            long remaining = TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMs);
+            waiting++;
+            try {
+                while (inFlight >= limit.getLimit()) {
+                    if (remaining <= 0) {
+                        rejected.increment();
+                        throw overloaded();
+                    }
+                    remaining = permitAvailable.awaitNanos(remaining);
+                }
+                inFlight++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                rejected.increment();
+                throw overloaded();
+            } finally {
+                waiting--;
+                long waited = System.nanoTime() - start;
+                waitTimer.record(waited, TimeUnit.NANOSECONDS);
+                recordQueueLatency(waited);
+                // 내가 나간 뒤에도 한도가 남아 있으면 다음 대기자를 깨운다
+                if (waiting > 0 && inFlight < limit.getLimit()) {
+                    permitAvailable.signal();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 스레드가 얻는 커넥션의 사용 시간을 한도 조정 표본으로 쓰기 시작한다. stopSampling()과 짝을 이뤄야 한다.
+     */
+    public static void startSampling() {
+        SAMPLING.set(Boolean.TRUE);
+    }
+
+    public static void stopSampling() {
+        SAMPLING.remove();
+    }
+
+    /**
+     * DataSource 체인에서 제한기를 찾는다 (문장 수 집계 등 다른 DataSource로 감싸져 있어도 찾음). 없으면 null.
+     */
+    public static ConcurrencyLimitedDataSource find(DataSource dataSource) {
+        try {
+            return dataSource != null && dataSource.isWrapperFor(ConcurrencyLimitedDataSource.class)
+                    ? dataSource.unwrap(ConcurrencyLimitedDataSource.class)
+                    : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    public int getWaiting() {
+        return waiting;
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    public int getMaxLimit() {
+        return limit.getMaxLimit();
+    }
+
+    /**
+     * 최근 허가 대기 시간(밀리초, 지수 이동 평균). DB 앞에 요청이 줄 서 있는 정도를 나타낸다.
+     * 대기자가 없으면 0 (요청이 모두 차단되어 새 표본이 없을 때 이전 값이 남아 있지 않도록).
+     */
+    public double getQueueLatencyMillis() {
+        return waiting == 0 ? 0 : queueLatencyNanos / 1_000_000.0;
+    }
+
+    // lock 안에서 호출
+    private void recordQueueLatency(long waitedNanos) {
+        queueLatencyNanos += (waitedNanos - queueLatencyNanos) * 0.1;
+    }
+
+    /**
+     * @param leaseNanos 커넥션을 사용한 시간 (커넥션을 얻지 못했거나 표본 대상 스레드가 아닌 경우 음수, 표본에서 제외)
+     */
+    private void release(long leaseNanos) {
+        boolean raised = false;
+        lock.lock();
+        try {
+            int held = inFlight;
+            inFlight--;
+            if (leaseNanos >= 0) {
+                raised = limit.onSample(leaseNanos, held);
+            }
+            if (raised) {
+                permitAvailable.signalAll();
+            } else {
+                permitAvailable.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ServiceOverloadedException overloaded() {
+        return new ServiceOverloadedException("DB 요청이 많습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+    }
+
+    /**
+     * close()가 여러 번 호출되어도 허가는 한 번만 반납한다.
+     */
+    private Connection wrap(Connection target) {
+        AtomicBoolean released = new AtomicBoolean(false);
+        long leasedAt = System.nanoTime();
+        boolean sampled = SAMPLING.get() != null;
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "close":
+                            try {
+                                target.close();
+                            } finally {
+                                if (released.compareAndSet(false, true)) {
+                                    long leaseNanos = System.nanoTime() - leasedAt;
+                                    leaseTimer.record(leaseNanos, TimeUnit.NANOSECONDS);
+                                    release(sampled ? leaseNanos : -1);
+                                }
+                            }
+                            return null;
+                        default:
+                            try {
+                                return method.invoke(target, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            }
+                    }
+                });
+    }
+}
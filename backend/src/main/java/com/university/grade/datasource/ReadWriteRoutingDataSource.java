@@ -0,0 +1,253 @@
+package com.university.grade.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제본으로, 나머지(쓰기, 세션, 이벤트, 트랜잭션 밖 조회)는 primary로 보낸다.
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로 LazyConnectionDataSourceProxy로 감싸
+ * 첫 SQL 실행 시점에 대상을 고른다.
+ * 복제본은 lag-check-interval마다 SHOW REPLICA STATUS로 지연을 확인하여, 지연이 max-lag를 넘거나
+ * 복제가 멈췄거나 연결에 실패하면 회복될 때까지 제외한다. 사용 가능한 복제본이 없으면 primary로 읽는다.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements DisposableBean {
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<ReplicaTarget> replicas;
+    private final ScheduledExecutorService lagChecker;
+
+    public ReadWriteRoutingDataSource(DataSource primary,
+                                      List<HikariDataSource> replicaPools,
+                                      Duration maxLag,
+                                      Duration lagCheckInterval,
+                                      MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicaPools.stream()
+                .map(pool -> new ReplicaTarget(pool, maxLag.toSeconds(), meterRegistry))
+                .toList();
+        setTargetDataSource(new Router(meterRegistry));
+        afterPropertiesSet();
+
+        this.lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lagChecker.scheduleWithFixedDelay(this::checkReplicas, 0, lagCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 읽기 전용 트랜잭션이라도 primary에서 읽어야 할 때 사용한다 (방금 쓴 데이터를 다시 읽는 경우 등).
+     * 라우팅을 사용하지 않으면 그냥 실행한다.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        if (Boolean.TRUE.equals(PRIMARY_FORCED.get())) {
+            return action.get();
+        }
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_FORCED.remove();
+        }
+    }
+
+    /**
+     * primary와 복제본 풀 크기의 합 (DB 동시성 제한기의 기본 허가 수 계산용).
+     */
+    public int getTotalPoolSize(int primaryPoolSize) {
+        return primaryPoolSize + replicas.stream().mapToInt(replica -> replica.pool.getMaximumPoolSize()).sum();
+    }
+
+    private void checkReplicas() {
+        for (ReplicaTarget replica : replicas) {
+            try {
+                replica.check();
+            } catch (RuntimeException e) {
+                replica.markDown("lag check failed: " + e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        lagChecker.shutdownNow();
+        for (ReplicaTarget replica : replicas) {
+            replica.pool.close();
+        }
+        // 감싸진 primary 풀은 컨테이너가 close()를 찾지 못하므로 여기서 닫는다
+        if (primary instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Failed to close primary DataSource: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 실제 커넥션을 얻는 시점에 대상을 고른다.
+     */
+    private class Router extends AbstractDataSource {
+        private final AtomicInteger next = new AtomicInteger();
+        private final Counter primaryConnections;
+        private final Counter fallbackUnavailable;
+        private final Counter fallbackConnectError;
+
+        Router(MeterRegistry meterRegistry) {
+            this.primaryConnections = meterRegistry.counter("db.routing.connections", "target", "primary");
+            this.fallbackUnavailable = meterRegistry.counter("db.routing.fallback", "reason", "no-healthy-replica");
+            this.fallbackConnectError = meterRegistry.counter("db.routing.fallback", "reason", "connect-error");
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                    || Boolean.TRUE.equals(PRIMARY_FORCED.get())) {
+                return primaryConnection();
+            }
+            ReplicaTarget replica = nextHealthyReplica();
+            if (replica == null) {
+                fallbackUnavailable.increment();
+                return primaryConnection();
+            }
+            try {
+                Connection connection = replica.pool.getConnection();
+                replica.connections.increment();
+                return connection;
+            } catch (SQLException e) {
+                replica.markDown("connect failed: " + e.getMessage());
+                fallbackConnectError.increment();
+                return primaryConnection();
+            }
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            primaryConnections.increment();
+            return primary.getConnection(username, password);
+        }
+
+        private Connection primaryConnection() throws SQLException {
+            primaryConnections.increment();
+            return primary.getConnection();
+        }
+
+        private ReplicaTarget nextHealthyReplica() {
+            int size = replicas.size();
+            int start = Math.floorMod(next.getAndIncrement(), Math.max(1, size));
+            for (int i = 0; i < size; i++) {
+                ReplicaTarget replica = replicas.get((start + i) % size);
+                if (replica.healthy) {
+                    return replica;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static class ReplicaTarget {
+        private final HikariDataSource pool;
+        private final long maxLagSeconds;
+        private final Counter connections;
+
+        private volatile boolean healthy;
+        private volatile double lagSeconds = Double.NaN;
+        private volatile boolean statusLogged;
+
+        ReplicaTarget(HikariDataSource pool, long maxLagSeconds, MeterRegistry meterRegistry) {
+            this.pool = pool;
+            this.maxLagSeconds = maxLagSeconds;
+            this.connections = meterRegistry.counter("db.routing.connections", "target", pool.getPoolName());
+            Gauge.builder("db.replica.lag.seconds", this, target -> target.lagSeconds)
+                    .description("Replication delay reported by the replica (NaN when unknown)")
+                    .tag("replica", pool.getPoolName())
+                    .register(meterRegistry);
+            Gauge.builder("db.replica.healthy", this, target -> target.healthy ? 1 : 0)
+                    .description("1 when the replica receives read-only transactions")
+                    .tag("replica", pool.getPoolName())
+                    .register(meterRegistry);
+        }
+
+        void check() {
+            Long lag;
+            try (Connection connection = pool.getConnection(); Statement statement = connection.createStatement()) {
+                lag = replicationLag(statement);
+            } catch (SQLException e) {
+                markDown("lag check failed: " + e.getMessage());
+                return;
+            }
+            if (lag == null) {
+                // 복제 스레드가 멈춘 상태 (Seconds_Behind_Source = NULL)
+                lagSeconds = Double.NaN;
+                markDown("replication is not running");
+                return;
+            }
+            lagSeconds = lag;
+            if (lag > maxLagSeconds) {
+                markDown("lag " + lag + "s exceeds " + maxLagSeconds + "s");
+                return;
+            }
+            if (!healthy) {
+                log.info("Replica {} is available for reads (lag {}s)", pool.getPoolName(), lag);
+            }
+            healthy = true;
+        }
+
+        /**
+         * @return 지연 초, 복제가 멈췄으면 null. 복제 설정이 없는 인스턴스(로컬 검증용 두 번째 DB)는 0.
+         */
+        private Long replicationLag(Statement statement) throws SQLException {
+            ResultSet rs;
+            String column;
+            try {
+                rs = statement.executeQuery("SHOW REPLICA STATUS");
+                column = "Seconds_Behind_Source";
+            } catch (SQLException e) {
+                // MySQL 8.0.22 이전
+                rs = statement.executeQuery("SHOW SLAVE STATUS");
+                column = "Seconds_Behind_Master";
+            }
+            try (ResultSet result = rs) {
+                if (!result.next()) {
+                    if (!statusLogged) {
+                        statusLogged = true;
+                        log.info("Replica {} reports no replication status - treating lag as 0", pool.getPoolName());
+                    }
+                    return 0L;
+                }
+                long lag = result.getLong(column);
+                return result.wasNull() ? null : lag;
+            }
+        }
+
+        void markDown(String reason) {
+            if (healthy) {
+                log.warn("Replica {} removed from read routing: {}", pool.getPoolName(), reason);
+            }
+            healthy = false;
+        }
+    }
+}
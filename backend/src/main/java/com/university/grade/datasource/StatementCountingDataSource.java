@@ -0,0 +1,79 @@
+package com.university.grade.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 현재 스레드에서 준비(prepare)한 SQL 문 수를 세는 DataSource.
+ * JPA, Spring Session JDBC, JdbcTemplate 모두 이 DataSource에서 커넥션을 얻으므로 요청 하나가 실행한 문장 수를 빠짐없이 센다.
+ * startCounting()을 호출한 스레드(요청 스레드)만 세며, 백그라운드 작업(refresh, 이의신청 writer 등)은 세지 않는다.
+ * JDBC 배치는 실행 횟수와 무관하게 prepare 1회로 센다.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    public StatementCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    /**
+     * 현재 스레드의 문장 수 집계를 시작한다. stopCounting()과 짝을 이뤄야 한다.
+     */
+    public static void startCounting() {
+        COUNTER.set(new int[1]);
+    }
+
+    /**
+     * 집계를 끝내고 startCounting() 이후 준비한 문장 수를 반환한다.
+     */
+    public static int stopCounting() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter == null ? 0 : counter[0];
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection target) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "prepareStatement", "prepareCall", "createStatement":
+                            int[] counter = COUNTER.get();
+                            if (counter != null) {
+                                counter[0]++;
+                            }
+                            return invoke(target, method, args);
+                        default:
+                            return invoke(target, method, args);
+                    }
+                });
+    }
+
+    private static Object invoke(Connection target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.university.grade.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GradeDashboardResponse {
+    private List<String> semesters;
+    private String semester; // 요약/목록이 조회된 학기 (요청 학기 또는 가장 최근 공개 학기)
+    private Boolean released; // false이면 summary/grades는 비어 있음
+    private GradeSummaryResponse summary; // 요약이 없는 학기는 null
+    private List<GradeDetailResponse> grades;
+}
@@ -11,5 +11,8 @@ import lombok.NoArgsConstructor;
 @Builder
 public class ObjectionResponse {
     private Long objectionId;
+    // 비동기 접수 시 발급되는 접수 번호와 상태 (QUEUED, PERSISTED, FAILED)
+    private String ticketId;
+    private String status;
     private String message;
 }
@@ -6,7 +6,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "ENROLLMENTS", 
-       uniqueConstraints = @UniqueConstraint(columnNames = {"student_id", "course_id", "semester"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"student_id", "course_id", "semester"}),
+       indexes = @Index(name = "idx_enrollments_semester_student", columnList = "semester, student_id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -6,7 +6,8 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "GRADES")
+@Table(name = "GRADES",
+       indexes = @Index(name = "idx_grades_updated_at", columnList = "updated_at"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -37,6 +38,8 @@ public class Grade {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // 새로 입력된 성적도 updated_at 변경 감지(GPA 요약, 조회 모델)에 잡히도록 INSERT 때도 기록
+    @PrePersist
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
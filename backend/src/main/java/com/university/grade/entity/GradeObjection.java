@@ -31,6 +31,10 @@ public class GradeObjection {
     @Column(name = "status", nullable = false, length = 20)
     private ObjectionStatus status = ObjectionStatus.PENDING;
 
+    // 비동기 접수 번호 (접수 상태 조회와 저널 재처리 시 중복 저장 방지에 사용)
+    @Column(name = "ticket_id", length = 36, unique = true)
+    private String ticketId;
+
     @Column(name = "professor_reply", columnDefinition = "TEXT")
     private String professorReply;
 
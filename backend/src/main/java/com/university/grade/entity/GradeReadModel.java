@@ -0,0 +1,56 @@
+package com.university.grade.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * (student_id, semester) 단위로 미리 만들어 둔 성적 조회 결과.
+ * summary_json은 GradeSummaryResponse, grades_json은 List&lt;GradeDetailResponse&gt; 형태의 JSON이다.
+ */
+@Entity
+@Table(name = "GRADE_READ_MODEL")
+@IdClass(GradeReadModel.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GradeReadModel {
+    @Id
+    @Column(name = "student_id")
+    private Long studentId;
+
+    @Id
+    @Column(name = "semester", length = 20)
+    private String semester;
+
+    @Column(name = "summary_json", columnDefinition = "TEXT")
+    private String summaryJson;
+
+    @Column(name = "grades_json", nullable = false, columnDefinition = "TEXT")
+    private String gradesJson;
+
+    // 원본(GRADES/GRADE_SUMMARY) 중 가장 최근 updated_at
+    @Column(name = "source_updated_at")
+    private LocalDateTime sourceUpdatedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long studentId;
+        private String semester;
+    }
+}
@@ -7,7 +7,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "GRADE_SUMMARY",
-       uniqueConstraints = @UniqueConstraint(columnNames = {"student_id", "semester"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"student_id", "semester"}),
+       indexes = @Index(name = "idx_grade_summary_updated_at", columnList = "updated_at"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -5,7 +5,8 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "SYSTEM_EVENTS")
+@Table(name = "SYSTEM_EVENTS",
+       indexes = @Index(name = "idx_system_events_type_created", columnList = "event_type, created_at"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,6 +24,13 @@ public class SystemEvent {
     @Column(name = "event_type", nullable = false, length = 50)
     private String eventType;
 
+    // 캐시 무효화 대상 키 (studentId:semester)
+    @Column(name = "student_id")
+    private Long studentId;
+
+    @Column(name = "semester", length = 20)
+    private String semester;
+
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
 
@@ -2,6 +2,7 @@ package com.university.grade.exception;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -15,8 +16,23 @@ import java.util.Map;
 @Slf4j
 public class GlobalExceptionHandler {
 
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<Map<String, String>> handleServiceOverloadedException(ServiceOverloadedException e) {
+        log.warn("Request rejected due to overload: {}", e.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(error);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, String>> handleRuntimeException(RuntimeException e) {
+        // 트랜잭션 시작 중 DB 동시성 제한에 걸린 경우 (CannotCreateTransactionException 등으로 감싸짐)
+        ServiceOverloadedException overloaded = ServiceOverloadedException.findIn(e);
+        if (overloaded != null) {
+            return handleServiceOverloadedException(overloaded);
+        }
         log.error("RuntimeException: {}", e.getMessage(), e);
         Map<String, String> error = new HashMap<>();
         error.put("message", e.getMessage());
@@ -33,6 +49,10 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleException(Exception e) {
+        ServiceOverloadedException overloaded = ServiceOverloadedException.findIn(e);
+        if (overloaded != null) {
+            return handleServiceOverloadedException(overloaded);
+        }
         log.error("Exception: {}", e.getMessage(), e);
         Map<String, String> error = new HashMap<>();
         error.put("message", "서버 오류가 발생했습니다.");
@@ -0,0 +1,10 @@
+package com.university.grade.exception;
+
+/**
+ * 해당 학기의 성적 요약이 없을 때 사용한다. 부정 캐시(NegativeResultCache)에 기록되는 결과를 구분하기 위한 타입이다.
+ */
+public class GradeSummaryNotFoundException extends RuntimeException {
+    public GradeSummaryNotFoundException() {
+        super("성적 요약을 찾을 수 없습니다.");
+    }
+}
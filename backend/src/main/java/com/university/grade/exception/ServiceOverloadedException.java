@@ -0,0 +1,41 @@
+package com.university.grade.exception;
+
+import lombok.Getter;
+
+/**
+ * 처리 용량을 초과하여 요청을 즉시 거절할 때 사용한다. 503 + Retry-After로 응답된다.
+ */
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 트랜잭션/캐시 계층에서 감싸진 과부하 예외를 찾는다. 없으면 null.
+     */
+    public static ServiceOverloadedException findIn(Throwable throwable) {
+        for (Throwable t = throwable; t != null; t = t.getCause()) {
+            if (t instanceof ServiceOverloadedException overloaded) {
+                return overloaded;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 원인 중에 과부하 예외가 있으면 그대로 다시 던진다 (컨트롤러의 일반 예외 처리보다 우선).
+     */
+    public static void rethrowIfCause(Throwable throwable) {
+        ServiceOverloadedException overloaded = findIn(throwable);
+        if (overloaded != null) {
+            throw overloaded;
+        }
+    }
+}
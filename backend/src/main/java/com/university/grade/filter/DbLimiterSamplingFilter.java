@@ -0,0 +1,35 @@
+package com.university.grade.filter;
+
+import com.university.grade.datasource.ConcurrencyLimitedDataSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청 스레드가 사용한 커넥션만 DB 동시성 한도 조정 표본으로 쓰도록 표시한다.
+ * 세션 필터보다 먼저 실행되어 세션 조회/갱신 쿼리도 표본에 포함한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 15)
+@ConditionalOnProperty(name = "grade.db.limiter.enabled", havingValue = "true")
+public class DbLimiterSamplingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ConcurrencyLimitedDataSource.startSampling();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ConcurrencyLimitedDataSource.stopSampling();
+        }
+    }
+}
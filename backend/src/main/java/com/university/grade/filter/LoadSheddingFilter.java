@@ -0,0 +1,282 @@
+package com.university.grade.filter;
+
+import com.university.grade.datasource.ConcurrencyLimitedDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pod 과부하 시 우선순위가 낮은 요청부터 차단하는 필터.
+ * 부하 수준(pressure)은 max(처리 중 요청 수 / max-in-flight, DB 허가 대기 시간 / queue-latency-target-ms)이며
+ * (DB 허가 대기 시간은 DB 동시성 제한기가 켜져 있을 때만 반영), 분류별 임계값(threshold)을 넘으면 해당 분류를 즉시 503 + Retry-After로 거절한다.
+ * 로그인은 거절하지 않고 부하가 내려갈 때까지 login-max-wait-ms 동안 대기시킨다 (대기열이 가득 차면 거절).
+ * 플랫폼 스레드 모드에서는 대기 중인 로그인이 Tomcat 요청 스레드를 붙잡으므로, 대기 수를 로그인 임계값 위의 여유분
+ * ((1 - threshold.login) x max-in-flight)으로 제한하고 처리 중 요청과 합쳐 max-in-flight를 넘기지 않게 한다.
+ * 세션 조회보다 먼저 실행되어 차단된 요청은 세션 저장소나 DB를 건드리지 않는다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "grade.shedding.enabled", havingValue = "true", matchIfMissing = true)
+public class LoadSheddingFilter extends OncePerRequestFilter {
+    private static final long LOGIN_RECHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final byte[] SHED_BODY =
+            "{\"message\":\"요청이 많아 잠시 처리할 수 없습니다. 잠시 후 다시 시도해주세요.\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectProvider<DataSource> dataSource;
+    private final int maxInFlight;
+    private final double queueLatencyTargetMs;
+    private final int loginMaxWaiting;
+    private final boolean virtualThreads;
+    private final long loginMaxWaitMs;
+    private final long retryAfterSeconds;
+    private final Map<RequestClass, Double> thresholds = new EnumMap<>(RequestClass.class);
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<RequestClass, AtomicInteger> inFlightByClass = new EnumMap<>(RequestClass.class);
+    private final ReentrantLock loginLock = new ReentrantLock();
+    private final Condition capacityFreed = loginLock.newCondition();
+    private volatile int loginWaiting;
+    private volatile ConcurrencyLimitedDataSource limitedDataSource;
+    private volatile boolean dataSourceResolved;
+
+    private final Map<RequestClass, Counter> admitted = new EnumMap<>(RequestClass.class);
+    private final Map<RequestClass, Counter> shedInFlight = new EnumMap<>(RequestClass.class);
+    private final Map<RequestClass, Counter> shedQueueLatency = new EnumMap<>(RequestClass.class);
+    private final Counter loginQueueFull;
+    private final Counter loginWaitTimeout;
+    private final Timer loginDelay;
+
+    public LoadSheddingFilter(ObjectProvider<DataSource> dataSource,
+                              MeterRegistry meterRegistry,
+                              @Value("${grade.shedding.max-in-flight:200}") int maxInFlight,
+                              @Value("${grade.shedding.queue-latency-target-ms:500}") double queueLatencyTargetMs,
+                              @Value("${grade.shedding.login-max-waiting:100}") int loginMaxWaiting,
+                              @Value("${grade.shedding.login-max-wait-ms:5000}") long loginMaxWaitMs,
+                              @Value("${grade.shedding.retry-after-seconds:2}") long retryAfterSeconds,
+                              @Value("${grade.shedding.threshold.grade-read:1.0}") double gradeReadThreshold,
+                              @Value("${grade.shedding.threshold.objection-write:0.9}") double objectionThreshold,
+                              @Value("${grade.shedding.threshold.static:0.85}") double staticThreshold,
+                              @Value("${grade.shedding.threshold.login:0.75}") double loginThreshold,
+                              @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.dataSource = dataSource;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.queueLatencyTargetMs = queueLatencyTargetMs;
+        this.virtualThreads = virtualThreads;
+        // 가상 스레드가 아니면 대기 중인 로그인 수만큼 성적 조회가 쓸 요청 스레드가 줄어든다
+        this.loginMaxWaiting = virtualThreads
+                ? loginMaxWaiting
+                : Math.min(loginMaxWaiting, (int) Math.max(0, (1 - loginThreshold) * this.maxInFlight));
+        this.loginMaxWaitMs = loginMaxWaitMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+        thresholds.put(RequestClass.GRADE_READ, gradeReadThreshold);
+        thresholds.put(RequestClass.OBJECTION_WRITE, objectionThreshold);
+        thresholds.put(RequestClass.STATIC, staticThreshold);
+        thresholds.put(RequestClass.LOGIN, loginThreshold);
+
+        for (RequestClass requestClass : thresholds.keySet()) {
+            admitted.put(requestClass, meterRegistry.counter("http.shedding.admitted", "class", requestClass.getTag()));
+            shedInFlight.put(requestClass, meterRegistry.counter("http.shedding.rejected",
+                    "class", requestClass.getTag(), "reason", "in-flight"));
+            shedQueueLatency.put(requestClass, meterRegistry.counter("http.shedding.rejected",
+                    "class", requestClass.getTag(), "reason", "queue-latency"));
+            AtomicInteger classInFlight = new AtomicInteger();
+            inFlightByClass.put(requestClass, classInFlight);
+            Gauge.builder("http.inflight", classInFlight, AtomicInteger::get)
+                    .description("Requests currently being handled, by request class")
+                    .tag("class", requestClass.getTag())
+                    .register(meterRegistry);
+        }
+        this.loginQueueFull = meterRegistry.counter("http.shedding.rejected",
+                "class", RequestClass.LOGIN.getTag(), "reason", "login-queue-full");
+        this.loginWaitTimeout = meterRegistry.counter("http.shedding.rejected",
+                "class", RequestClass.LOGIN.getTag(), "reason", "login-wait-timeout");
+        this.loginDelay = Timer.builder("http.shedding.login.delay")
+                .description("Time logins were held back before being admitted or rejected")
+                .register(meterRegistry);
+        Gauge.builder("http.shedding.inflight", inFlight, AtomicInteger::get)
+                .description("Requests currently admitted by the load shedding filter")
+                .register(meterRegistry);
+        Gauge.builder("http.shedding.pressure", this, LoadSheddingFilter::pressure)
+                .description("Load level compared against per-class thresholds (1.0 = full)")
+                .register(meterRegistry);
+        Gauge.builder("http.shedding.login.waiting", this, filter -> filter.loginWaiting)
+                .description("Logins waiting for the load to drop")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestClass requestClass = RequestClass.of(request);
+        if (requestClass == RequestClass.EXEMPT) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        boolean admit = requestClass == RequestClass.LOGIN
+                ? admitLogin()
+                : admitImmediately(requestClass);
+        if (!admit) {
+            reject(response);
+            return;
+        }
+
+        admitted.get(requestClass).increment();
+        AtomicInteger classInFlight = inFlightByClass.get(requestClass);
+        inFlight.incrementAndGet();
+        classInFlight.incrementAndGet();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            classInFlight.decrementAndGet();
+            inFlight.decrementAndGet();
+            signalWaitingLogins();
+        }
+    }
+
+    private boolean admitImmediately(RequestClass requestClass) {
+        double threshold = thresholds.get(requestClass);
+        if (inFlightRatio() >= threshold) {
+            shedInFlight.get(requestClass).increment();
+            return false;
+        }
+        // 성적 조회는 대부분 캐시 응답이므로 DB 대기로는 차단하지 않는다 (캐시 미스는 DB 동시성 제한기가 처리)
+        if (requestClass != RequestClass.GRADE_READ && queueLatencyRatio() >= threshold) {
+            shedQueueLatency.get(requestClass).increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 부하가 로그인 임계값 아래로 내려갈 때까지 기다린다. 대기 중인 로그인은 처리 중 요청 수에 포함하지 않는다.
+     */
+    private boolean admitLogin() {
+        double threshold = thresholds.get(RequestClass.LOGIN);
+        if (pressure() < threshold) {
+            return true;
+        }
+
+        long start = System.nanoTime();
+        loginLock.lock();
+        try {
+            if (loginWaiting >= loginMaxWaiting || !threadAvailableForWaiting()) {
+                loginQueueFull.increment();
+                return false;
+            }
+            loginWaiting++;
+            try {
+                long remaining = TimeUnit.MILLISECONDS.toNanos(loginMaxWaitMs);
+                while (pressure() >= threshold) {
+                    if (remaining <= 0) {
+                        loginWaitTimeout.increment();
+                        return false;
+                    }
+                    // DB 대기 시간은 요청 종료와 무관하게 줄어들므로 주기적으로 다시 확인한다
+                    long waited = Math.min(remaining, LOGIN_RECHECK_NANOS);
+                    remaining -= waited - capacityFreed.awaitNanos(waited);
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                loginWaiting--;
+                loginDelay.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            loginLock.unlock();
+        }
+    }
+
+    /**
+     * 플랫폼 스레드 모드에서 처리 중 요청과 대기 중인 로그인이 합쳐 max-in-flight(= Tomcat 스레드 수)를 넘지 않을 때만 대기시킨다.
+     */
+    private boolean threadAvailableForWaiting() {
+        return virtualThreads || inFlight.get() + loginWaiting < maxInFlight;
+    }
+
+    private void signalWaitingLogins() {
+        if (loginWaiting == 0) {
+            return;
+        }
+        loginLock.lock();
+        try {
+            capacityFreed.signal();
+        } finally {
+            loginLock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getInFlight(RequestClass requestClass) {
+        AtomicInteger classInFlight = inFlightByClass.get(requestClass);
+        return classInFlight == null ? 0 : classInFlight.get();
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public int getLoginWaiting() {
+        return loginWaiting;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(SHED_BODY.length);
+        response.getOutputStream().write(SHED_BODY);
+    }
+
+    private double pressure() {
+        return Math.max(inFlightRatio(), queueLatencyRatio());
+    }
+
+    private double inFlightRatio() {
+        return (double) inFlight.get() / maxInFlight;
+    }
+
+    private double queueLatencyRatio() {
+        if (queueLatencyTargetMs <= 0) {
+            return 0;
+        }
+        if (!dataSourceResolved) {
+            // DB 동시성 제한기가 꺼져 있으면 큐 지연 신호 없이 처리 중 요청 수로만 판단한다
+            limitedDataSource = ConcurrencyLimitedDataSource.find(dataSource.getIfAvailable());
+            dataSourceResolved = true;
+        }
+        ConcurrencyLimitedDataSource limited = limitedDataSource;
+        return limited == null ? 0 : limited.getQueueLatencyMillis() / queueLatencyTargetMs;
+    }
+}
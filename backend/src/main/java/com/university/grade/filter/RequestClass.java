@@ -0,0 +1,47 @@
+package com.university.grade.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 부하 차단 필터의 요청 분류. 과부하 시 우선순위가 낮은 분류부터 차단한다.
+ */
+public enum RequestClass {
+    // 로그인한 학생의 성적 조회 (대부분 캐시 응답) - 마지막까지 처리
+    GRADE_READ("grade-read"),
+    // 이의신청 접수 (저장은 비동기 배치)
+    OBJECTION_WRITE("objection-write"),
+    // 화면 정적 리소스 (브라우저 캐시가 있어 주로 새로 접속한 사용자가 요청)
+    STATIC("static"),
+    // 로그인 (BCrypt 검증 + 세션 저장) - 거절하지 않고 먼저 지연시킨다
+    LOGIN("login"),
+    // 헬스 체크/메트릭 - 차단하지 않음
+    EXEMPT("exempt");
+
+    private final String tag;
+
+    RequestClass(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public static RequestClass of(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/actuator")) {
+            return EXEMPT;
+        }
+        if (path.equals("/api/v1/auth/login")) {
+            return LOGIN;
+        }
+        if (path.startsWith("/api/v1/objections")) {
+            return "GET".equals(request.getMethod()) ? GRADE_READ : OBJECTION_WRITE;
+        }
+        if (path.startsWith("/api/")) {
+            // 성적 조회, 로그아웃 등 로그인한 사용자의 요청
+            return GRADE_READ;
+        }
+        return STATIC;
+    }
+}
@@ -0,0 +1,55 @@
+package com.university.grade.filter;
+
+import com.university.grade.datasource.StatementCountingDataSource;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 하나가 실행한 SQL 문 수를 db.statements.per.request{uri,method}로 기록한다.
+ * 세션 필터보다 먼저 실행되어 세션 조회/갱신(SPRING_SESSION) 쿼리도 포함하므로 세션 모드별 요청당 쿼리 수를 비교할 수 있다.
+ * uri 태그는 http_server_requests와 같이 매핑된 경로 패턴을 사용한다 (매핑 전에 끝난 요청은 UNKNOWN).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@ConditionalOnProperty(name = "grade.metrics.statements.enabled", havingValue = "true", matchIfMissing = true)
+public class StatementCountFilter extends OncePerRequestFilter {
+    // yml의 slo 설정은 정수를 밀리초 Duration으로 해석하여 DistributionSummary에 적용되지 않으므로 여기서 지정한다 (0건은 le=1 버킷)
+    private static final double[] STATEMENT_BUCKETS = {1, 2, 3, 5, 10, 20};
+
+    private final MeterRegistry meterRegistry;
+
+    public StatementCountFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        StatementCountingDataSource.startCounting();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int statements = StatementCountingDataSource.stopCounting();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("db.statements.per.request")
+                    .description("SQL statements prepared while handling one request")
+                    .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                    .tag("method", request.getMethod())
+                    .serviceLevelObjectives(STATEMENT_BUCKETS)
+                    .register(meterRegistry)
+                    .record(statements);
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.university.grade.repository;
 
 import com.university.grade.entity.Enrollment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +24,42 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     List<Enrollment> findByStudentId(@Param("studentId") Long studentId);
     
     Optional<Enrollment> findByEnrollmentId(Long enrollmentId);
+
+    // 이의신청 접수 검증용: 엔티티를 만들지 않고 소유 학생과 학기만 조회
+    @Query("SELECT e.student.studentId AS studentId, e.semester AS semester " +
+           "FROM Enrollment e WHERE e.enrollmentId = :enrollmentId")
+    Optional<EnrollmentOwner> findOwnerByEnrollmentId(@Param("enrollmentId") Long enrollmentId);
+
+    @Query("SELECT DISTINCT e.student.studentId FROM Enrollment e " +
+           "WHERE e.semester = :semester AND e.student.studentId > :afterStudentId " +
+           "ORDER BY e.student.studentId")
+    List<Long> findStudentIdsBySemester(@Param("semester") String semester,
+                                        @Param("afterStudentId") Long afterStudentId,
+                                        Pageable pageable);
+
+    @Query("SELECT COUNT(DISTINCT e.student.studentId) FROM Enrollment e WHERE e.semester = :semester")
+    long countStudentsBySemester(@Param("semester") String semester);
+
+    // 학기 전체 재계산의 분할 기준 [MIN(studentId), MAX(studentId)]
+    @Query("SELECT MIN(e.student.studentId), MAX(e.student.studentId) FROM Enrollment e WHERE e.semester = :semester")
+    List<Object[]> findStudentIdRangeBySemester(@Param("semester") String semester);
+
+    // 수강 정보가 바뀐 키 [studentId, semester, MAX(updatedAt)]
+    @Query("SELECT e.student.studentId, e.semester, MAX(e.updatedAt) FROM Enrollment e " +
+           "WHERE e.updatedAt > :since " +
+           "GROUP BY e.student.studentId, e.semester")
+    List<Object[]> findChangedKeysSince(@Param("since") LocalDateTime since);
+
+    // 과목 정보(과목명, 학점 등)가 바뀐 과목을 수강한 키 [studentId, semester, MAX(course.updatedAt)]
+    @Query("SELECT e.student.studentId, e.semester, MAX(c.updatedAt) FROM Enrollment e " +
+           "JOIN e.course c " +
+           "WHERE c.updatedAt > :since " +
+           "GROUP BY e.student.studentId, e.semester")
+    List<Object[]> findCourseChangedKeysSince(@Param("since") LocalDateTime since);
+
+    interface EnrollmentOwner {
+        Long getStudentId();
+
+        String getSemester();
+    }
 }
@@ -2,8 +2,21 @@ package com.university.grade.repository;
 
 import com.university.grade.entity.GradeObjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface GradeObjectionRepository extends JpaRepository<GradeObjection, Long> {
+    @Query("SELECT o.objectionId FROM GradeObjection o " +
+           "WHERE o.ticketId = :ticketId AND o.enrollment.student.studentId = :studentId")
+    Optional<Long> findIdByTicketIdAndStudentId(@Param("ticketId") String ticketId,
+                                                @Param("studentId") Long studentId);
+
+    @Query("SELECT o.ticketId FROM GradeObjection o WHERE o.ticketId IN :ticketIds")
+    List<String> findExistingTicketIds(@Param("ticketIds") Collection<String> ticketIds);
 }
@@ -0,0 +1,53 @@
+package com.university.grade.repository;
+
+import com.university.grade.entity.GradeReadModel;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface GradeReadModelRepository extends JpaRepository<GradeReadModel, GradeReadModel.Key> {
+    @Query("SELECT MAX(m.sourceUpdatedAt) FROM GradeReadModel m")
+    Optional<LocalDateTime> findMaxSourceUpdatedAt();
+
+    // 다른 Pod가 다시 만든 행 [studentId, semester, updatedAt] (삭제 감지, 요약 재계산으로 갱신된 행의 로컬 캐시 제거용)
+    @Query("SELECT m.studentId, m.semester, m.updatedAt FROM GradeReadModel m WHERE m.updatedAt > :since")
+    List<Object[]> findChangedKeysSince(@Param("since") LocalDateTime since);
+
+    // 삭제 감지 순회용 [studentId, semester, gradesJson, sourceUpdatedAt] ((studentId, semester) 순서, 키 이후부터)
+    @Query("SELECT m.studentId, m.semester, m.gradesJson, m.sourceUpdatedAt FROM GradeReadModel m " +
+           "WHERE m.studentId > :studentId OR (m.studentId = :studentId AND m.semester > :semester) " +
+           "ORDER BY m.studentId, m.semester")
+    List<Object[]> findAfter(@Param("studentId") Long studentId,
+                             @Param("semester") String semester,
+                             Pageable pageable);
+
+    // 조회 모델은 내용이 바뀔 때만 갱신되므로 updated_at을 HTTP 검증자(버전)로 사용
+    @Query("SELECT m.updatedAt FROM GradeReadModel m WHERE m.studentId = :studentId AND m.semester = :semester")
+    Optional<LocalDateTime> findUpdatedAt(@Param("studentId") Long studentId, @Param("semester") String semester);
+
+    // 여러 Pod가 동시에 같은 키를 갱신해도 충돌하지 않도록 upsert 사용
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO GRADE_READ_MODEL " +
+                   "(student_id, semester, summary_json, grades_json, source_updated_at, updated_at) " +
+                   "VALUES (:studentId, :semester, :summaryJson, :gradesJson, :sourceUpdatedAt, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE summary_json = VALUES(summary_json), " +
+                   "grades_json = VALUES(grades_json), " +
+                   "source_updated_at = VALUES(source_updated_at), " +
+                   "updated_at = NOW()",
+           nativeQuery = true)
+    int upsert(@Param("studentId") Long studentId,
+               @Param("semester") String semester,
+               @Param("summaryJson") String summaryJson,
+               @Param("gradesJson") String gradesJson,
+               @Param("sourceUpdatedAt") LocalDateTime sourceUpdatedAt);
+}
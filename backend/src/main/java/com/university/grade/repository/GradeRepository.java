@@ -1,5 +1,6 @@
 package com.university.grade.repository;
 
+import com.university.grade.dto.GradeDetailResponse;
 import com.university.grade.entity.Grade;
 import com.university.grade.entity.Enrollment;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +22,53 @@ public interface GradeRepository extends JpaRepository<Grade, Long> {
            "JOIN e.student s " +
            "WHERE s.studentId = :studentId AND e.semester = :semester")
     List<Grade> findByStudentIdAndSemester(@Param("studentId") Long studentId, @Param("semester") String semester);
+
+    // 엔티티를 만들지 않고 GRADES/ENROLLMENTS/COURSES 한 번의 조인으로 응답 DTO를 바로 조회
+    @Query("SELECT new com.university.grade.dto.GradeDetailResponse(" +
+           "e.enrollmentId, c.courseCode, c.courseName, c.credit, g.gradeLetter, g.score, g.isFinalized) " +
+           "FROM Grade g " +
+           "JOIN g.enrollment e " +
+           "JOIN e.course c " +
+           "WHERE e.student.studentId = :studentId AND e.semester = :semester")
+    List<GradeDetailResponse> findGradeDetailsByStudentIdAndSemester(@Param("studentId") Long studentId,
+                                                                     @Param("semester") String semester);
+
+    @Query("SELECT g FROM Grade g " +
+           "JOIN FETCH g.enrollment e " +
+           "JOIN FETCH e.course " +
+           "WHERE e.semester = :semester AND e.student.studentId IN :studentIds")
+    List<Grade> findBySemesterAndStudentIds(@Param("semester") String semester,
+                                            @Param("studentIds") Collection<Long> studentIds);
+
+    // [studentId, semester, MAX(updatedAt)]
+    @Query("SELECT e.student.studentId, e.semester, MAX(g.updatedAt) FROM Grade g " +
+           "JOIN g.enrollment e " +
+           "WHERE g.updatedAt > :since " +
+           "GROUP BY e.student.studentId, e.semester")
+    List<Object[]> findChangedKeysSince(@Param("since") LocalDateTime since);
+
+    // 조회 모델 삭제 감지용 [studentId, semester, COUNT(grade)] (학생 번호 범위)
+    @Query("SELECT e.student.studentId, e.semester, COUNT(g) FROM Grade g " +
+           "JOIN g.enrollment e " +
+           "WHERE e.student.studentId BETWEEN :fromStudentId AND :toStudentId " +
+           "GROUP BY e.student.studentId, e.semester")
+    List<Object[]> countByStudentRange(@Param("fromStudentId") Long fromStudentId,
+                                       @Param("toStudentId") Long toStudentId);
+
+    // GPA 재계산용 [studentId, credit, gradeLetter] (학생 번호 범위)
+    @Query("SELECT e.student.studentId, c.credit, g.gradeLetter FROM Grade g " +
+           "JOIN g.enrollment e " +
+           "JOIN e.course c " +
+           "WHERE e.semester = :semester AND e.student.studentId BETWEEN :fromStudentId AND :toStudentId")
+    List<Object[]> findCreditsAndLettersInRange(@Param("semester") String semester,
+                                                @Param("fromStudentId") Long fromStudentId,
+                                                @Param("toStudentId") Long toStudentId);
+
+    // GPA 재계산용 [studentId, credit, gradeLetter]
+    @Query("SELECT e.student.studentId, c.credit, g.gradeLetter FROM Grade g " +
+           "JOIN g.enrollment e " +
+           "JOIN e.course c " +
+           "WHERE e.semester = :semester AND e.student.studentId IN :studentIds")
+    List<Object[]> findCreditsAndLetters(@Param("semester") String semester,
+                                         @Param("studentIds") Collection<Long> studentIds);
 }
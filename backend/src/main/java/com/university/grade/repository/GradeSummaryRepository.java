@@ -1,11 +1,14 @@
 package com.university.grade.repository;
 
 import com.university.grade.entity.GradeSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +19,38 @@ public interface GradeSummaryRepository extends JpaRepository<GradeSummary, Long
     @Query("SELECT gs FROM GradeSummary gs " +
            "WHERE gs.student.studentId = :studentId")
     List<GradeSummary> findByStudentStudentId(@Param("studentId") Long studentId);
+
+    @Query("SELECT gs FROM GradeSummary gs " +
+           "WHERE gs.semester = :semester AND gs.student.studentId IN :studentIds")
+    List<GradeSummary> findBySemesterAndStudentIds(@Param("semester") String semester,
+                                                   @Param("studentIds") Collection<Long> studentIds);
+
+    // [studentId, semester, updatedAt]
+    @Query("SELECT gs.student.studentId, gs.semester, gs.updatedAt FROM GradeSummary gs " +
+           "WHERE gs.updatedAt > :since")
+    List<Object[]> findChangedKeysSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT MAX(gs.updatedAt) FROM GradeSummary gs")
+    Optional<LocalDateTime> findMaxUpdatedAt();
+
+    // [studentId, gpa, totalCredits]
+    @Query("SELECT gs.student.studentId, gs.gpa, gs.totalCredits FROM GradeSummary gs " +
+           "WHERE gs.semester = :semester AND gs.student.studentId IN :studentIds")
+    List<Object[]> findValuesBySemesterAndStudentIds(@Param("semester") String semester,
+                                                     @Param("studentIds") Collection<Long> studentIds);
+
+    // [studentId, gpa, totalCredits] (학생 번호 범위)
+    @Query("SELECT gs.student.studentId, gs.gpa, gs.totalCredits FROM GradeSummary gs " +
+           "WHERE gs.semester = :semester AND gs.student.studentId BETWEEN :fromStudentId AND :toStudentId")
+    List<Object[]> findValuesBySemesterInRange(@Param("semester") String semester,
+                                               @Param("fromStudentId") Long fromStudentId,
+                                               @Param("toStudentId") Long toStudentId);
+
+    // 삭제 감지 순회용 [studentId, semester] ((studentId, semester) 순서, 키 이후부터)
+    @Query("SELECT gs.student.studentId, gs.semester FROM GradeSummary gs " +
+           "WHERE gs.student.studentId > :studentId OR (gs.student.studentId = :studentId AND gs.semester > :semester) " +
+           "ORDER BY gs.student.studentId, gs.semester")
+    List<Object[]> findKeysAfter(@Param("studentId") Long studentId,
+                                 @Param("semester") String semester,
+                                 Pageable pageable);
 }
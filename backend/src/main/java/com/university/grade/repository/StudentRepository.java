@@ -3,11 +3,14 @@ package com.university.grade.repository;
 import com.university.grade.entity.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
     Optional<Student> findByStudentNumber(String studentNumber);
+    // 로그인 시 조회 (복제본 라우팅 대상)
+    @Transactional(readOnly = true)
     Optional<Student> findByUserUserId(Long userId);
 }
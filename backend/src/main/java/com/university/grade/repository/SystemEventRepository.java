@@ -1,9 +1,62 @@
 package com.university.grade.repository;
 
 import com.university.grade.entity.SystemEvent;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SystemEventRepository extends JpaRepository<SystemEvent, Long> {
+    @Query("SELECT MAX(e.eventId) FROM SystemEvent e")
+    Optional<Long> findMaxEventId();
+
+    // IDENTITY 키는 커밋 순서와 다를 수 있으므로 최근 생성된 이벤트도 함께 조회
+    @Query("SELECT e FROM SystemEvent e " +
+           "WHERE e.eventType IN :eventTypes " +
+           "AND (e.eventId > :afterEventId OR e.createdAt >= :since) " +
+           "ORDER BY e.eventId ASC")
+    List<SystemEvent> findRecentEvents(@Param("eventTypes") Collection<String> eventTypes,
+                                       @Param("afterEventId") Long afterEventId,
+                                       @Param("since") LocalDateTime since,
+                                       Pageable pageable);
+
+    // 마지막으로 본 번호 이후의 이벤트 (keyset 페이지, 짧은 페이지가 나올 때까지 반복 조회)
+    @Query("SELECT e FROM SystemEvent e " +
+           "WHERE e.eventType IN :eventTypes AND e.eventId > :afterEventId " +
+           "ORDER BY e.eventId ASC")
+    List<SystemEvent> findEventsAfter(@Param("eventTypes") Collection<String> eventTypes,
+                                      @Param("afterEventId") Long afterEventId,
+                                      Pageable pageable);
+
+    // 번호를 건너뛴 구간(늦게 커밋된 이벤트 후보) 재확인용. 다른 종류의 이벤트도 찾아야 구간에서 제외할 수 있다
+    List<SystemEvent> findByEventIdIn(Collection<Long> eventIds);
+
+    // 커밋 이후(AFTER_COMMIT) 리스너에서 호출되므로 끝난 트랜잭션에 참여하지 않도록 새 트랜잭션 사용
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("UPDATE SystemEvent e " +
+           "SET e.processingStatus = :status, e.processedAt = :processedAt " +
+           "WHERE e.eventId = :eventId")
+    int markProcessed(@Param("eventId") Long eventId,
+                      @Param("status") SystemEvent.ProcessingStatus status,
+                      @Param("processedAt") LocalDateTime processedAt);
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("UPDATE SystemEvent e " +
+           "SET e.processingStatus = :status, e.processedAt = :processedAt " +
+           "WHERE e.eventId IN :eventIds")
+    int markProcessedAll(@Param("eventIds") Collection<Long> eventIds,
+                         @Param("status") SystemEvent.ProcessingStatus status,
+                         @Param("processedAt") LocalDateTime processedAt);
 }
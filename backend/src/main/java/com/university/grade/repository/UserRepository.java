@@ -3,10 +3,13 @@ package com.university.grade.repository;
 import com.university.grade.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    // 로그인 조회는 읽기 전용 트랜잭션으로 실행하여 복제본 라우팅 대상이 되도록 한다
+    @Transactional(readOnly = true)
     Optional<User> findByLoginId(String loginId);
 }
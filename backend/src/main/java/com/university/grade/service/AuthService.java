@@ -4,14 +4,13 @@ import com.university.grade.dto.LoginRequest;
 import com.university.grade.dto.LoginResponse;
 import com.university.grade.entity.Student;
 import com.university.grade.entity.User;
+import com.university.grade.exception.ServiceOverloadedException;
 import com.university.grade.repository.StudentRepository;
 import com.university.grade.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -21,9 +20,9 @@ import java.util.Optional;
 public class AuthService {
     private final UserRepository userRepository;
     private final StudentRepository studentRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerificationService passwordVerificationService;
 
-    @Transactional(readOnly = true)
+    // BCrypt 대기 중에 DB 커넥션을 붙잡지 않도록 메서드 단위 트랜잭션을 두지 않는다
     public LoginResponse login(LoginRequest request) {
         Optional<User> userOpt;
         
@@ -77,8 +76,10 @@ public class AuthService {
         
         boolean passwordMatches = false;
         try {
-            passwordMatches = passwordEncoder.matches(inputPassword, storedHash);
+            passwordMatches = passwordVerificationService.matches(inputPassword, storedHash);
             log.info("Password match result: {} for loginId: {}", passwordMatches, request.getUserId());
+        } catch (ServiceOverloadedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error during password verification - loginId: {}, error: {}", 
                     request.getUserId(), e.getMessage(), e);
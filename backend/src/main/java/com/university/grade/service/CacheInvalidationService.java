@@ -0,0 +1,290 @@
+package com.university.grade.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.university.grade.cache.NegativeResultCache;
+import com.university.grade.entity.SystemEvent;
+import com.university.grade.repository.SystemEventRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SYSTEM_EVENTS 테이블을 이용한 클러스터 단위 캐시 무효화.
+ * 이벤트를 발행한 Pod는 커밋 직후 로컬 캐시를 비우고, 나머지 Pod는 주기적으로 이벤트를 폴링하여
+ * 해당 studentId:semester 키만 제거한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationService {
+    public static final String EVENT_TYPE = "CACHE_INVALIDATION";
+    private static final String INSERT_EVENT = "INSERT INTO SYSTEM_EVENTS "
+            + "(instance_id, event_type, student_id, semester, description, created_at, retry_count, processing_status) "
+            + "VALUES (?, ?, ?, ?, ?, ?, 0, ?)";
+    private static final long MAX_GAP_SPAN = 10_000;
+    private static final List<String> STUDENT_SEMESTER_CACHES = List.of(
+            "gradeList", "gradeSummary", "gradeVersion", "gradeListJson", "gradeSummaryJson");
+
+    private final SystemEventRepository eventRepository;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${grade.instance-id:${HOSTNAME:local}}")
+    private String instanceId;
+
+    @Value("${grade.cache.invalidation.batch-size:500}")
+    private int batchSize;
+
+    @Value("${grade.cache.invalidation.lookback-seconds:10}")
+    private long lookbackSeconds;
+
+    @Value("${grade.datasource.routing.enabled:false}")
+    private boolean routingEnabled;
+
+    @Value("${grade.datasource.routing.pin-primary-after-write:10s}")
+    private Duration pinPrimaryAfterWrite;
+
+    // 복제본 라우팅 사용 시 최근 무효화된 학생 (이 동안은 캐시를 primary 값으로 채운다)
+    private com.github.benmanes.caffeine.cache.Cache<Long, Boolean> recentlyInvalidated;
+
+    private final AtomicLong lastSeenEventId = new AtomicLong(-1);
+    // 건너뛴 이벤트 번호 -> 발견 시각(ms). IDENTITY 키는 커밋 순서와 다를 수 있으므로 lookback 동안 다시 확인한다
+    private final Map<Long, Long> pendingGaps = new ConcurrentHashMap<>();
+    // lookback 구간에서 다시 조회되는 이벤트의 중복 처리를 막기 위한 기록 (eventId -> createdAt)
+    private final Map<Long, LocalDateTime> recentlyApplied = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void initRecentlyInvalidated() {
+        if (routingEnabled) {
+            recentlyInvalidated = Caffeine.newBuilder()
+                    .maximumSize(100_000)
+                    .expireAfterWrite(pinPrimaryAfterWrite)
+                    .build();
+        }
+    }
+
+    /**
+     * 복제 지연 구간 안에 무효화된 학생인지. true면 캐시 미스 조회를 primary에서 읽어야 한다.
+     */
+    public boolean isRecentlyInvalidated(Long studentId) {
+        return recentlyInvalidated != null && studentId != null && recentlyInvalidated.getIfPresent(studentId) != null;
+    }
+
+    /**
+     * 호출한 트랜잭션 안에서 무효화 이벤트를 저장한다. 로컬 캐시는 커밋 이후에 제거된다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public SystemEvent publish(Long studentId, String semester, String description) {
+        SystemEvent event = eventRepository.save(SystemEvent.builder()
+                .instanceId(instanceId)
+                .eventType(EVENT_TYPE)
+                .studentId(studentId)
+                .semester(semester)
+                .description(description)
+                .retryCount(0)
+                .processingStatus(SystemEvent.ProcessingStatus.PENDING)
+                .build());
+        eventPublisher.publishEvent(new InvalidationCommitted(event.getEventId(), studentId, semester));
+        return event;
+    }
+
+    /**
+     * 여러 키의 무효화 이벤트를 JDBC 배치 한 번으로 저장한다 (IDENTITY 키라 JPA로는 배치되지 않음).
+     * publish와 마찬가지로 호출한 트랜잭션이 커밋된 뒤 로컬 캐시를 비운다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(List<InvalidationTarget> targets) {
+        if (targets.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_EVENT, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        InvalidationTarget target = targets.get(i);
+                        ps.setString(1, instanceId);
+                        ps.setString(2, EVENT_TYPE);
+                        ps.setLong(3, target.studentId());
+                        ps.setString(4, target.semester());
+                        ps.setString(5, target.description());
+                        ps.setObject(6, now);
+                        ps.setString(7, SystemEvent.ProcessingStatus.PENDING.name());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return targets.size();
+                    }
+                }, keyHolder);
+
+        List<Long> eventIds = keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+        eventPublisher.publishEvent(new InvalidationBatchCommitted(eventIds, targets));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onInvalidationBatchCommitted(InvalidationBatchCommitted committed) {
+        Set<String> evicted = new HashSet<>();
+        for (InvalidationTarget target : committed.targets()) {
+            if (evicted.add(target.studentId() + ":" + target.semester())) {
+                evictLocal(target.studentId(), target.semester());
+            }
+        }
+        LocalDateTime now = LocalDateTime.now();
+        committed.eventIds().forEach(eventId -> recentlyApplied.put(eventId, now));
+        try {
+            eventRepository.markProcessedAll(committed.eventIds(), SystemEvent.ProcessingStatus.COMPLETED, now);
+        } catch (Exception e) {
+            log.warn("Failed to mark {} cache invalidation events as processed: {}",
+                    committed.eventIds().size(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onInvalidationCommitted(InvalidationCommitted committed) {
+        evictLocal(committed.studentId(), committed.semester());
+        recentlyApplied.put(committed.eventId(), LocalDateTime.now());
+        try {
+            eventRepository.markProcessed(committed.eventId(),
+                    SystemEvent.ProcessingStatus.COMPLETED, LocalDateTime.now());
+        } catch (Exception e) {
+            // 상태 갱신 실패는 다른 Pod의 무효화에 영향을 주지 않는다
+            log.warn("Failed to mark cache invalidation event {} as processed: {}",
+                    committed.eventId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 Pod에서 발행한 무효화 이벤트를 가져와 로컬 캐시에 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${grade.cache.invalidation.poll-interval-ms:1000}")
+    public void pollEvents() {
+        try {
+            if (lastSeenEventId.get() < 0) {
+                // 기동 직후에는 캐시가 비어 있으므로 과거 이벤트는 건너뛴다
+                lastSeenEventId.set(eventRepository.findMaxEventId().orElse(0L));
+            }
+
+            LocalDateTime since = LocalDateTime.now().minusSeconds(lookbackSeconds);
+            long nowMs = System.currentTimeMillis();
+
+            // 새 이벤트: 재계산/마감 직전처럼 한 번에 수천 건이 발행돼도 모두 읽도록 짧은 페이지가 나올 때까지 반복
+            List<SystemEvent> events;
+            do {
+                long afterEventId = lastSeenEventId.get();
+                events = eventRepository.findEventsAfter(List.of(EVENT_TYPE), afterEventId, PageRequest.of(0, batchSize));
+                long previous = afterEventId;
+                for (SystemEvent event : events) {
+                    recordGaps(previous, event.getEventId(), nowMs);
+                    previous = event.getEventId();
+                    apply(event);
+                    lastSeenEventId.accumulateAndGet(event.getEventId(), Math::max);
+                }
+            } while (events.size() == batchSize);
+
+            // 건너뛴 번호 중 그 사이 커밋된 이벤트 (다른 종류의 이벤트로 확인된 번호도 목록에서 제외)
+            pendingGaps.values().removeIf(noticedAt -> noticedAt < nowMs - lookbackSeconds * 1000);
+            List<Long> gaps = List.copyOf(pendingGaps.keySet());
+            for (int from = 0; from < gaps.size(); from += batchSize) {
+                for (SystemEvent event : eventRepository.findByEventIdIn(
+                        gaps.subList(from, Math.min(gaps.size(), from + batchSize)))) {
+                    pendingGaps.remove(event.getEventId());
+                    if (EVENT_TYPE.equals(event.getEventType())) {
+                        apply(event);
+                    }
+                }
+            }
+
+            recentlyApplied.values().removeIf(createdAt -> createdAt == null || createdAt.isBefore(since));
+        } catch (Exception e) {
+            log.warn("Failed to poll cache invalidation events: {}", e.getMessage());
+        }
+    }
+
+    private void apply(SystemEvent event) {
+        if (recentlyApplied.putIfAbsent(event.getEventId(), event.getCreatedAt()) == null
+                && !instanceId.equals(event.getInstanceId())) {
+            evictLocal(event.getStudentId(), event.getSemester());
+        }
+    }
+
+    private void recordGaps(long previousEventId, long eventId, long nowMs) {
+        if (eventId - previousEventId - 1 > MAX_GAP_SPAN) {
+            // 다른 종류의 이벤트가 대량으로 끼어든 경우 등: 구간 전체를 추적하지 않는다
+            log.debug("Not tracking {} skipped event ids between {} and {}", eventId - previousEventId - 1,
+                    previousEventId, eventId);
+            return;
+        }
+        for (long gap = previousEventId + 1; gap < eventId; gap++) {
+            pendingGaps.putIfAbsent(gap, nowMs);
+        }
+    }
+
+    public void evictLocal(Long studentId, String semester) {
+        if (studentId == null || semester == null) {
+            log.warn("Cache invalidation event without key - studentId: {}, semester: {}", studentId, semester);
+            return;
+        }
+        if (recentlyInvalidated != null) {
+            recentlyInvalidated.put(studentId, Boolean.TRUE);
+        }
+        String key = studentId + ":" + semester;
+        for (String cacheName : STUDENT_SEMESTER_CACHES) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.evict(key);
+            }
+        }
+        // 새로 생긴 성적이 부정 캐시(요약 없음/빈 학기 목록)에 가려지지 않도록 함께 제거
+        Cache negative = cacheManager.getCache(NegativeResultCache.CACHE_NAME);
+        if (negative != null) {
+            negative.evict(NegativeResultCache.summaryKey(studentId, semester));
+            negative.evict(NegativeResultCache.semestersKey(studentId));
+        }
+        log.debug("Evicted local cache entries for key {}", key);
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public record InvalidationCommitted(Long eventId, Long studentId, String semester) {
+    }
+
+    public record InvalidationTarget(Long studentId, String semester, String description) {
+    }
+
+    public record InvalidationBatchCommitted(List<Long> eventIds, List<InvalidationTarget> targets) {
+    }
+}
@@ -0,0 +1,202 @@
+package com.university.grade.service;
+
+import com.university.grade.config.GradeCacheProperties;
+import com.university.grade.dto.GradeDetailResponse;
+import com.university.grade.entity.Grade;
+import com.university.grade.entity.GradeReleasePolicy;
+import com.university.grade.entity.GradeSummary;
+import com.university.grade.repository.EnrollmentRepository;
+import com.university.grade.repository.GradeReleasePolicyRepository;
+import com.university.grade.repository.GradeRepository;
+import com.university.grade.repository.GradeSummaryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 성적 공개 직전(또는 공개 직후)에 해당 학기의 gradeSummary/gradeList 캐시를 미리 채운다.
+ * 각 Pod가 GRADE_RELEASE_POLICY를 주기적으로 확인하여 스스로 예열하므로 스케일 아웃된 Pod도 동일하게 동작한다.
+ * 예열한 항목이 release_at 전에 만료되지 않도록 lead 구간은 캐시 expire-after-write보다 짧아야 하며,
+ * Pod마다 spread-seconds 안의 임의 시점에 시작하여 모든 Pod가 동시에 DB를 읽지 않도록 한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CachePrewarmService {
+    private final GradeReleasePolicyRepository policyRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final GradeSummaryRepository summaryRepository;
+    private final GradeRepository gradeRepository;
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final GradeCacheProperties cacheProperties;
+
+    @Value("${grade.cache.prewarm.enabled:true}")
+    private boolean enabled;
+
+    @Value("${grade.cache.prewarm.batch-size:500}")
+    private int batchSize;
+
+    @Value("${grade.cache.prewarm.lead-minutes:5}")
+    private long leadMinutes;
+
+    @Value("${grade.cache.prewarm.spread-seconds:120}")
+    private long spreadSeconds;
+
+    @Value("${grade.cache.prewarm.window-hours:6}")
+    private long windowHours;
+
+    // 이 Pod에서 이미 예열을 마친 (학기, 공개 시각) - 공개 시각이 바뀌면 다시 예열
+    private final Set<String> warmedReleases = ConcurrentHashMap.newKeySet();
+    private final Map<String, AtomicLong> warmedStudents = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> totalStudents = new ConcurrentHashMap<>();
+    // 이 Pod의 예열 시작 지연 (release_at - lead 이후)
+    private long startOffsetSeconds;
+
+    @PostConstruct
+    void initLeadTime() {
+        Duration ttl = shortestTtl();
+        if (ttl != null && Duration.ofMinutes(leadMinutes).compareTo(ttl) >= 0) {
+            long clamped = Math.max(1, ttl.toMinutes() / 2);
+            log.warn("grade.cache.prewarm.lead-minutes ({}) is not shorter than the grade cache TTL ({}) - "
+                    + "prewarmed entries would expire before release, using {} minutes", leadMinutes, ttl, clamped);
+            leadMinutes = clamped;
+        }
+        long maxOffset = Math.min(Math.max(0, spreadSeconds), leadMinutes * 60);
+        startOffsetSeconds = maxOffset == 0 ? 0 : ThreadLocalRandom.current().nextLong(maxOffset);
+    }
+
+    @Scheduled(fixedDelayString = "${grade.cache.prewarm.check-interval-ms:30000}",
+               initialDelayString = "${grade.cache.prewarm.initial-delay-ms:10000}")
+    public void checkUpcomingReleases() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            for (GradeReleasePolicy policy : policyRepository.findAll()) {
+                String releaseKey = policy.getSemester() + "@" + (policy.getReleaseAt() != null
+                        ? policy.getReleaseAt()
+                        : policy.getUpdatedAt());
+                if (!warmedReleases.contains(releaseKey) && isInWarmupWindow(policy, now)) {
+                    prewarm(policy.getSemester());
+                    warmedReleases.add(releaseKey);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to check grade release policies for cache prewarm: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * release_at 직전 lead 구간(이 Pod의 시작 지연 이후) 또는 공개 전환 직후 window 구간이면 예열 대상이다.
+     */
+    boolean isInWarmupWindow(GradeReleasePolicy policy, LocalDateTime now) {
+        LocalDateTime releaseAt = policy.getReleaseAt();
+        if (releaseAt != null
+                && now.isAfter(releaseAt.minusMinutes(leadMinutes).plusSeconds(startOffsetSeconds))
+                && now.isBefore(releaseAt.plusHours(windowHours))) {
+            return true;
+        }
+        LocalDateTime flippedAt = policy.getUpdatedAt();
+        return Boolean.TRUE.equals(policy.getIsReleased())
+                && flippedAt != null
+                && now.isBefore(flippedAt.plusHours(windowHours));
+    }
+
+    /**
+     * 학기의 수강생을 studentId 순으로 배치 단위로 읽어 캐시에 적재한다.
+     */
+    public void prewarm(String semester) {
+        Cache summaryCache = cacheManager.getCache("gradeSummary");
+        Cache listCache = cacheManager.getCache("gradeList");
+        if (summaryCache == null || listCache == null) {
+            log.warn("Grade caches are not configured - skipping prewarm for semester {}", semester);
+            return;
+        }
+
+        AtomicLong warmed = warmedStudents.computeIfAbsent(semester, this::registerProgressGauge);
+        AtomicLong total = totalStudents.computeIfAbsent(semester, s -> new AtomicLong());
+        warmed.set(0);
+        total.set(enrollmentRepository.countStudentsBySemester(semester));
+
+        Counter entries = meterRegistry.counter("grade.cache.prewarm.entries", "semester", semester);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        log.info("Cache prewarm started - semester: {}, students: {}", semester, total.get());
+
+        long afterStudentId = 0L;
+        while (true) {
+            List<Long> studentIds = enrollmentRepository.findStudentIdsBySemester(
+                    semester, afterStudentId, PageRequest.of(0, batchSize));
+            if (studentIds.isEmpty()) {
+                break;
+            }
+
+            for (GradeSummary summary : summaryRepository.findBySemesterAndStudentIds(semester, studentIds)) {
+                summaryCache.putIfAbsent(summary.getStudent().getStudentId() + ":" + semester,
+                        GradeInquiryService.toSummaryResponse(summary));
+                entries.increment();
+            }
+
+            Map<Long, List<GradeDetailResponse>> gradesByStudent = new LinkedHashMap<>();
+            studentIds.forEach(id -> gradesByStudent.put(id, new ArrayList<>()));
+            for (Grade grade : gradeRepository.findBySemesterAndStudentIds(semester, studentIds)) {
+                gradesByStudent.get(grade.getEnrollment().getStudent().getStudentId())
+                        .add(GradeInquiryService.toDetailResponse(grade));
+            }
+            gradesByStudent.forEach((studentId, grades) -> {
+                listCache.putIfAbsent(studentId + ":" + semester, grades);
+                entries.increment();
+            });
+
+            warmed.addAndGet(studentIds.size());
+            afterStudentId = studentIds.get(studentIds.size() - 1);
+        }
+
+        long elapsed = sample.stop(meterRegistry.timer("grade.cache.prewarm.duration", "semester", semester));
+        log.info("Cache prewarm finished - semester: {}, students: {}, took: {}ms",
+                semester, warmed.get(), Duration.ofNanos(elapsed).toMillis());
+    }
+
+    private Duration shortestTtl() {
+        Duration summaryTtl = cacheProperties.specFor("gradeSummary").getExpireAfterWrite();
+        Duration listTtl = cacheProperties.specFor("gradeList").getExpireAfterWrite();
+        if (summaryTtl == null || listTtl == null) {
+            return summaryTtl != null ? summaryTtl : listTtl;
+        }
+        return summaryTtl.compareTo(listTtl) <= 0 ? summaryTtl : listTtl;
+    }
+
+    private AtomicLong registerProgressGauge(String semester) {
+        AtomicLong warmed = new AtomicLong();
+        Gauge.builder("grade.cache.prewarm.progress", warmed, w -> {
+                    AtomicLong total = totalStudents.get(semester);
+                    return total == null || total.get() == 0 ? 0.0 : (double) w.get() / total.get();
+                })
+                .tag("semester", semester)
+                .description("Fraction of the semester cohort loaded into the grade caches")
+                .register(meterRegistry);
+        return warmed;
+    }
+}
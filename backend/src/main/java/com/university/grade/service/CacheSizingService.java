@@ -0,0 +1,77 @@
+package com.university.grade.service;
+
+import com.university.grade.config.CacheConfig;
+import com.university.grade.config.GradeCacheProperties;
+import com.university.grade.repository.StudentRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 학생 수에 맞춰 캐시 최대 크기를 조정한다.
+ * per-student가 지정된 캐시는 max(설정된 최대 크기, 학생 수 x per-student)로 늘려서
+ * 한 학기 전체 학생의 항목을 담을 수 있게 한다 (설정값보다 줄이지는 않음).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheSizingService {
+    private final CacheManager cacheManager;
+    private final GradeCacheProperties properties;
+    private final StudentRepository studentRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Long> appliedMaximums = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerGauges() {
+        for (String name : CacheConfig.CACHE_NAMES) {
+            appliedMaximums.put(name, properties.specFor(name).getMaximum());
+            Gauge.builder("grade.cache.capacity", appliedMaximums, maximums -> maximums.getOrDefault(name, 0L))
+                    .description("Current maximum size (or weight) of the cache")
+                    .tag("cache", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${grade.cache.sizing.interval-ms:600000}",
+               initialDelayString = "${grade.cache.sizing.initial-delay-ms:20000}")
+    public void resize() {
+        try {
+            long students = studentRepository.count();
+            for (String name : CacheConfig.CACHE_NAMES) {
+                GradeCacheProperties.Spec spec = properties.specFor(name);
+                if (spec.getPerStudent() == null || spec.getPerStudent() <= 0) {
+                    continue;
+                }
+                long target = Math.max(spec.getMaximum(), (long) Math.ceil(students * spec.getPerStudent()));
+                apply(name, target);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to resize caches: {}", e.getMessage());
+        }
+    }
+
+    private void apply(String name, long maximum) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            return;
+        }
+        nativeCache.policy().eviction().ifPresent(eviction -> {
+            if (eviction.getMaximum() != maximum) {
+                log.info("Resizing cache '{}' from {} to {}", name, eviction.getMaximum(), maximum);
+                eviction.setMaximum(maximum);
+            }
+        });
+        appliedMaximums.put(name, maximum);
+    }
+}
@@ -0,0 +1,87 @@
+package com.university.grade.service;
+
+import com.university.grade.dto.GradeDashboardResponse;
+import com.university.grade.dto.GradeSummaryResponse;
+import com.university.grade.exception.ServiceOverloadedException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 메인 화면에 필요한 학기 목록, 성적 요약, 성적 목록을 한 번에 조회한다.
+ * GradeInquiryService의 캐시가 그대로 적용되도록 별도 빈에서 조합한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GradeDashboardService {
+    private final GradeInquiryService gradeInquiryService;
+    private final GradeVersionService gradeVersionService;
+
+    public GradeDashboardResponse getDashboard(Long studentId, String requestedSemester) {
+        List<String> semesters = gradeInquiryService.getAvailableSemesters(studentId);
+        String semester = selectSemester(semesters, requestedSemester);
+
+        GradeDashboardResponse.GradeDashboardResponseBuilder builder = GradeDashboardResponse.builder()
+                .semesters(semesters)
+                .semester(semester)
+                .released(false)
+                .grades(List.of());
+        if (semester == null || !gradeInquiryService.isGradeReleased(semester)) {
+            return builder.build();
+        }
+
+        GradeSummaryResponse summary = null;
+        try {
+            summary = gradeInquiryService.getGradeSummary(studentId, semester);
+        } catch (RuntimeException e) {
+            // 과부하는 요약 없이 응답하지 않고 503으로 돌려준다
+            ServiceOverloadedException.rethrowIfCause(e);
+            log.debug("No grade summary for studentId {} semester {}: {}", studentId, semester, e.getMessage());
+        }
+
+        return builder
+                .released(true)
+                .summary(summary)
+                .grades(gradeInquiryService.getGradeList(studentId, semester))
+                .build();
+    }
+
+    /**
+     * 응답 본문을 만들지 않고 계산하는 대시보드 ETag. 학기 목록, 선택된 학기, 공개 여부, 성적 버전을 조합하며
+     * 공개된 학기의 버전을 아직 알 수 없으면(조회 모델 행 없음) null을 반환한다.
+     */
+    public String getEntityTag(Long studentId, String requestedSemester) {
+        List<String> semesters = gradeInquiryService.getAvailableSemesters(studentId);
+        String semester = selectSemester(semesters, requestedSemester);
+        boolean released = semester != null && gradeInquiryService.isGradeReleased(semester);
+
+        String version = "0";
+        if (released) {
+            LocalDateTime updatedAt = gradeVersionService.getVersion(studentId, semester).orElse(null);
+            if (updatedAt == null) {
+                return null;
+            }
+            version = Long.toHexString(GradeVersionService.toEpochMillis(updatedAt));
+        }
+        int hash = Objects.hash(semesters, semester, released);
+        return "W/\"d-" + studentId + "-" + Integer.toHexString(hash) + "-" + version + "\"";
+    }
+
+    /**
+     * 요청한 학기가 있으면 그대로 사용하고, 없으면 최신 학기부터 공개된 첫 학기를 고른다.
+     */
+    private String selectSemester(List<String> semesters, String requestedSemester) {
+        if (requestedSemester != null && !requestedSemester.isBlank()) {
+            return requestedSemester;
+        }
+        return semesters.stream()
+                .filter(gradeInquiryService::isGradeReleased)
+                .findFirst()
+                .orElse(semesters.isEmpty() ? null : semesters.get(0));
+    }
+}
@@ -1,114 +1,113 @@
 package com.university.grade.service;
 
+import com.university.grade.cache.NegativeResultCache;
+import com.university.grade.cache.SingleFlight;
+import com.university.grade.datasource.ReadWriteRoutingDataSource;
 import com.university.grade.dto.GradeDetailResponse;
 import com.university.grade.dto.GradeSummaryResponse;
 import com.university.grade.entity.*;
-import com.university.grade.repository.*;
+import com.university.grade.exception.GradeSummaryNotFoundException;
+import com.university.grade.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class GradeInquiryService {
-    private final GradeReleasePolicyRepository policyRepository;
-    private final GradeSummaryRepository summaryRepository;
-    private final GradeRepository gradeRepository;
-    private final EnrollmentRepository enrollmentRepository;
+    private final GradeReleasePolicyRegistry policyRegistry;
+    private final GradeQueryService gradeQueryService;
+    private final SingleFlight singleFlight;
+    private final NegativeResultCache negativeResultCache;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final MeterRegistry meterRegistry;
 
-    @Transactional(readOnly = true)
+    // 메모리에 보관된 공개 정책으로 판단 (요청마다 GRADE_RELEASE_POLICY를 조회하지 않음)
     public boolean isGradeReleased(String semester) {
-        return policyRepository.findBySemester(semester)
-                .map(GradeReleasePolicy::getIsReleased)
-                .orElse(false);
+        return policyRegistry.isReleased(semester);
     }
 
     @Cacheable(value = "gradeSummary", key = "#studentId + ':' + #semester")
-    @Transactional(readOnly = true)
     public GradeSummaryResponse getGradeSummary(Long studentId, String semester) {
-        return summaryRepository.findByStudentStudentIdAndSemester(studentId, semester)
-                .map(summary -> GradeSummaryResponse.builder()
-                        .semester(summary.getSemester())
-                        .gpa(summary.getGpa())
-                        .totalCredits(summary.getTotalCredits())
-                        .build())
-                .orElseThrow(() -> new RuntimeException("성적 요약을 찾을 수 없습니다."));
+        // 최근에 없다고 확인한 요약은 DB를 다시 조회하지 않는다
+        if (negativeResultCache.isSummaryMissing(studentId, semester)) {
+            throw new GradeSummaryNotFoundException();
+        }
+        try {
+            // 동시에 미스가 난 같은 키는 한 번만 조회 (트랜잭션은 로드하는 요청만 시작)
+            return singleFlight.execute("gradeSummary", studentId + ":" + semester,
+                    () -> load("gradeSummary", studentId, () -> gradeQueryService.loadGradeSummary(studentId, semester)));
+        } catch (GradeSummaryNotFoundException e) {
+            negativeResultCache.markSummaryMissing(studentId, semester);
+            throw e;
+        }
     }
 
     @Cacheable(value = "gradeList", key = "#studentId + ':' + #semester")
-    @Transactional(readOnly = true)
     public List<GradeDetailResponse> getGradeList(Long studentId, String semester) {
-        List<Grade> grades = gradeRepository.findByStudentIdAndSemester(studentId, semester);
-        
-        return grades.stream()
-                .map(grade -> {
-                    Enrollment enrollment = grade.getEnrollment();
-                    Course course = enrollment.getCourse();
-                    
-                    return GradeDetailResponse.builder()
-                            .enrollmentId(enrollment.getEnrollmentId())
-                            .courseCode(course.getCourseCode())
-                            .courseName(course.getCourseName())
-                            .credit(course.getCredit())
-                            .gradeLetter(grade.getGradeLetter())
-                            .score(grade.getScore())
-                            .isFinalized(grade.getIsFinalized())
-                            .build();
-                })
-                .collect(Collectors.toList());
+        return singleFlight.execute("gradeList", studentId + ":" + semester,
+                () -> load("gradeList", studentId, () -> gradeQueryService.loadGradeList(studentId, semester)));
+    }
+
+    /**
+     * 캐시 미스 조회 시간을 grade.inquiry.load{cache}로 기록한다 (single-flight로 합쳐진 요청은 한 번만 기록).
+     * 방금 무효화된 학생은 복제 지연으로 이전 값을 다시 캐시하지 않도록 primary에서 읽는다.
+     */
+    private <T> T load(String cache, Long studentId, Supplier<T> loader) {
+        return meterRegistry.timer("grade.inquiry.load", "cache", cache).record(() ->
+                cacheInvalidationService.isRecentlyInvalidated(studentId)
+                        ? ReadWriteRoutingDataSource.onPrimary(loader)
+                        : loader.get());
+    }
+
+    public static GradeSummaryResponse toSummaryResponse(GradeSummary summary) {
+        return GradeSummaryResponse.builder()
+                .semester(summary.getSemester())
+                .gpa(summary.getGpa())
+                .totalCredits(summary.getTotalCredits())
+                .build();
+    }
+
+    public static GradeDetailResponse toDetailResponse(Grade grade) {
+        Enrollment enrollment = grade.getEnrollment();
+        Course course = enrollment.getCourse();
+
+        return GradeDetailResponse.builder()
+                .enrollmentId(enrollment.getEnrollmentId())
+                .courseCode(course.getCourseCode())
+                .courseName(course.getCourseName())
+                .credit(course.getCredit())
+                .gradeLetter(grade.getGradeLetter())
+                .score(grade.getScore())
+                .isFinalized(grade.getIsFinalized())
+                .build();
     }
 
     @Cacheable(value = "availableSemesters", key = "'semesters:' + #studentId", condition = "#studentId != null", unless = "#result == null || #result.isEmpty()")
-    @Transactional(readOnly = true)
     public List<String> getAvailableSemesters(Long studentId) {
-        log.info("getAvailableSemesters called with studentId: {}", studentId);
+        // 빈 목록은 위 캐시에 저장하지 않으므로 부정 캐시로 짧게 기억한다
+        if (studentId != null && negativeResultCache.isSemestersEmpty(studentId)) {
+            return List.of();
+        }
+        List<String> semesters;
         try {
-            // 1. GradeSummary에서 학기 목록 가져오기 (가장 확실한 데이터)
-            List<GradeSummary> summaries = summaryRepository.findByStudentStudentId(studentId);
-            log.info("Found {} grade summaries for studentId {}", summaries.size(), studentId);
-            
-            List<String> semestersFromSummary = summaries.stream()
-                    .map(GradeSummary::getSemester)
-                    .filter(semester -> semester != null && !semester.trim().isEmpty())
-                    .distinct()
-                    .collect(Collectors.toList());
-            
-            // 2. Enrollment에서도 학기 목록 가져오기 (GradeSummary에 없는 경우 대비)
-            List<Enrollment> enrollments = enrollmentRepository.findByStudentId(studentId);
-            log.debug("Found {} enrollments for studentId {}", enrollments.size(), studentId);
-            
-            List<String> semestersFromEnrollment = enrollments.stream()
-                    .map(Enrollment::getSemester)
-                    .filter(semester -> semester != null && !semester.trim().isEmpty())
-                    .distinct()
-                    .collect(Collectors.toList());
-            
-            // 3. 두 리스트를 합치고 중복 제거
-            java.util.Set<String> semesterSet = new java.util.HashSet<>();
-            semesterSet.addAll(semestersFromSummary);
-            semesterSet.addAll(semestersFromEnrollment);
-            
-            List<String> semesters = semesterSet.stream()
-                    .sorted((a, b) -> b.compareTo(a)) // 최신 학기부터
-                    .collect(Collectors.toList());
-            
-            log.info("Available semesters for studentId {}: {} (from {} summaries, {} enrollments)", 
-                    studentId, semesters, summaries.size(), enrollments.size());
-            
-            if (semesters.isEmpty()) {
-                log.warn("No semesters found for studentId {} from any source", studentId);
-            }
-            
-            return semesters;
-        } catch (Exception e) {
+            semesters = singleFlight.execute("availableSemesters", studentId,
+                    () -> load("availableSemesters", studentId, () -> gradeQueryService.loadAvailableSemesters(studentId)));
+        } catch (RuntimeException e) {
+            ServiceOverloadedException.rethrowIfCause(e);
+            // 조회 실패는 빈 목록으로 응답하되 부정 캐시에는 기록하지 않는다
             log.error("Error getting available semesters for studentId {}: {}", studentId, e.getMessage(), e);
             return List.of();
         }
+        if (studentId != null && (semesters == null || semesters.isEmpty())) {
+            negativeResultCache.markSemestersEmpty(studentId);
+        }
+        return semesters;
     }
 }
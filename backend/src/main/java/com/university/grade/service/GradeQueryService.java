@@ -0,0 +1,100 @@
+package com.university.grade.service;
+
+import com.university.grade.dto.GradeDetailResponse;
+import com.university.grade.dto.GradeSummaryResponse;
+import com.university.grade.entity.Enrollment;
+import com.university.grade.entity.GradeSummary;
+import com.university.grade.exception.GradeSummaryNotFoundException;
+import com.university.grade.repository.EnrollmentRepository;
+import com.university.grade.repository.GradeRepository;
+import com.university.grade.repository.GradeSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 캐시를 거치지 않는 성적 원본 조회.
+ * GradeInquiryService의 캐시 미스(single-flight leader)와 캐시 refresh 로더에서만 호출한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GradeQueryService {
+    private final GradeSummaryRepository summaryRepository;
+    private final GradeRepository gradeRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final GradeReadModelService readModelService;
+
+    @Transactional(readOnly = true)
+    public GradeSummaryResponse loadGradeSummary(Long studentId, String semester) {
+        // 조회 모델이 있으면 기본 키 조회 한 번으로 응답
+        Optional<GradeReadModelService.GradeSnapshot> snapshot = readModelService.find(studentId, semester);
+        if (snapshot.isPresent()) {
+            return Optional.ofNullable(snapshot.get().getSummary())
+                    .orElseThrow(GradeSummaryNotFoundException::new);
+        }
+
+        return summaryRepository.findByStudentStudentIdAndSemester(studentId, semester)
+                .map(GradeInquiryService::toSummaryResponse)
+                .orElseThrow(GradeSummaryNotFoundException::new);
+    }
+
+    @Transactional(readOnly = true)
+    public List<GradeDetailResponse> loadGradeList(Long studentId, String semester) {
+        Optional<GradeReadModelService.GradeSnapshot> snapshot = readModelService.find(studentId, semester);
+        if (snapshot.isPresent()) {
+            return snapshot.get().getGrades();
+        }
+
+        // 프로젝션 조회: 캐시 미스 1건당 쿼리 1회 (Enrollment/Course 추가 조회 없음)
+        return gradeRepository.findGradeDetailsByStudentIdAndSemester(studentId, semester);
+    }
+
+    @Transactional(readOnly = true)
+    public List<String> loadAvailableSemesters(Long studentId) {
+        log.info("getAvailableSemesters called with studentId: {}", studentId);
+        // 조회 실패는 호출한 쪽에서 처리한다 (빈 목록으로 바꾸면 부정 캐시에 "학기 없음"으로 기록됨)
+        // 1. GradeSummary에서 학기 목록 가져오기 (가장 확실한 데이터)
+        List<GradeSummary> summaries = summaryRepository.findByStudentStudentId(studentId);
+        log.info("Found {} grade summaries for studentId {}", summaries.size(), studentId);
+        
+        List<String> semestersFromSummary = summaries.stream()
+                .map(GradeSummary::getSemester)
+                .filter(semester -> semester != null && !semester.trim().isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+        
+        // 2. Enrollment에서도 학기 목록 가져오기 (GradeSummary에 없는 경우 대비)
+        List<Enrollment> enrollments = enrollmentRepository.findByStudentId(studentId);
+        log.debug("Found {} enrollments for studentId {}", enrollments.size(), studentId);
+        
+        List<String> semestersFromEnrollment = enrollments.stream()
+                .map(Enrollment::getSemester)
+                .filter(semester -> semester != null && !semester.trim().isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+        
+        // 3. 두 리스트를 합치고 중복 제거
+        java.util.Set<String> semesterSet = new java.util.HashSet<>();
+        semesterSet.addAll(semestersFromSummary);
+        semesterSet.addAll(semestersFromEnrollment);
+        
+        List<String> semesters = semesterSet.stream()
+                .sorted((a, b) -> b.compareTo(a)) // 최신 학기부터
+                .collect(Collectors.toList());
+        
+        log.info("Available semesters for studentId {}: {} (from {} summaries, {} enrollments)", 
+                studentId, semesters, summaries.size(), enrollments.size());
+        
+        if (semesters.isEmpty()) {
+            log.warn("No semesters found for studentId {} from any source", studentId);
+        }
+        
+        return semesters;
+    }
+}
@@ -0,0 +1,313 @@
+package com.university.grade.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.grade.dto.GradeDetailResponse;
+import com.university.grade.dto.GradeSummaryResponse;
+import com.university.grade.entity.Grade;
+import com.university.grade.entity.GradeReadModel;
+import com.university.grade.entity.GradeSummary;
+import com.university.grade.repository.EnrollmentRepository;
+import com.university.grade.repository.GradeReadModelRepository;
+import com.university.grade.repository.GradeRepository;
+import com.university.grade.repository.GradeSummaryRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (student_id, semester) 단위의 비정규화 성적 조회 테이블(GRADE_READ_MODEL)을 관리한다.
+ * 캐시 미스는 조인 대신 기본 키 조회 한 번으로 처리하고, GRADES/GRADE_SUMMARY/ENROLLMENTS/COURSES의 updated_at 변경을
+ * 주기적으로 감지하여 해당 키의 행을 다시 만든다. 행이 없던 키는 첫 조회 후 백그라운드에서 채운다.
+ * <ul>
+ *   <li>요약 재계산(GradeSummaryWriter)은 무효화 이벤트를 발행하는 트랜잭션 안에서 rebuildAll로 행을 함께 다시 만든다
+ *       (이벤트를 받은 Pod가 캐시 미스 때 이전 GPA를 다시 읽지 않음)</li>
+ *   <li>성적 삭제/수강 취소는 updated_at이 남지 않으므로, 행을 reconcile-keys-per-sync 개씩 돌아가며 원본 성적 수와 비교한다</li>
+ *   <li>다른 Pod가 다시 만든 행은 GRADE_READ_MODEL.updated_at 변경으로 감지하여 이 Pod의 캐시에서도 제거한다</li>
+ * </ul>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GradeReadModelService {
+    private static final TypeReference<List<GradeDetailResponse>> GRADE_LIST_TYPE = new TypeReference<>() {
+    };
+    private static final GradeReadModel.Key FIRST_KEY = new GradeReadModel.Key(0L, "");
+    // 같은 원본이면 어느 경로로 만들어도 같은 JSON이 되도록 과목 순서를 고정한다
+    private static final Comparator<GradeDetailResponse> GRADE_ORDER =
+            Comparator.comparing(GradeDetailResponse::getEnrollmentId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final GradeReadModelRepository readModelRepository;
+    private final GradeSummaryRepository summaryRepository;
+    private final GradeRepository gradeRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${grade.read-model.enabled:true}")
+    private boolean enabled;
+
+    @Value("${grade.read-model.max-keys-per-sync:2000}")
+    private int maxKeysPerSync;
+
+    @Value("${grade.read-model.lookback-seconds:10}")
+    private long lookbackSeconds;
+
+    @Value("${grade.read-model.reconcile-keys-per-sync:2000}")
+    private int reconcileKeysPerSync;
+
+    // 행이 없어 원본 테이블로 응답한 키 (다음 동기화 때 생성)
+    private final Set<GradeReadModel.Key> pendingKeys = ConcurrentHashMap.newKeySet();
+    private volatile LocalDateTime watermark;
+    // lookback 구간에서 다시 조회되는 변경의 중복 처리를 막기 위한 기록 (key -> 반영한 updated_at)
+    private final Map<GradeReadModel.Key, LocalDateTime> recentlyApplied = new ConcurrentHashMap<>();
+    // 삭제 감지 순회 위치 (이 키 다음부터 비교)
+    private volatile GradeReadModel.Key reconcileCursor = FIRST_KEY;
+
+    public Optional<GradeSnapshot> find(Long studentId, String semester) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Optional<GradeSnapshot> snapshot = readModelRepository.findById(new GradeReadModel.Key(studentId, semester))
+                .map(this::toSnapshot);
+        if (snapshot.isEmpty()) {
+            pendingKeys.add(new GradeReadModel.Key(studentId, semester));
+        }
+        return snapshot;
+    }
+
+    /**
+     * 원본 테이블에서 다시 만든 결과가 저장된 값과 다르면 upsert 한다.
+     *
+     * @return 내용이 바뀌었으면 true
+     */
+    public boolean rebuild(Long studentId, String semester, LocalDateTime sourceUpdatedAt) {
+        String summaryJson = summaryRepository.findByStudentStudentIdAndSemester(studentId, semester)
+                .map(GradeInquiryService::toSummaryResponse)
+                .map(this::writeJson)
+                .orElse(null);
+        String gradesJson = gradesJson(gradeRepository.findGradeDetailsByStudentIdAndSemester(studentId, semester));
+
+        Optional<GradeReadModel> existing = readModelRepository.findById(new GradeReadModel.Key(studentId, semester));
+        return upsertIfChanged(studentId, semester, summaryJson, gradesJson, existing.orElse(null), sourceUpdatedAt);
+    }
+
+    /**
+     * 한 학기 여러 학생의 행을 원본 테이블에서 한꺼번에 다시 만들고 내용이 바뀐 행만 upsert 한다.
+     * 호출한 트랜잭션 안에서 실행되므로 같은 트랜잭션에서 발행한 무효화 이벤트보다 먼저 보이지 않는다.
+     *
+     * @return 내용이 바뀐 행 수
+     */
+    public int rebuildAll(String semester, Collection<Long> studentIds) {
+        if (!enabled || studentIds.isEmpty()) {
+            return 0;
+        }
+        Map<Long, String> summaries = new HashMap<>();
+        for (GradeSummary summary : summaryRepository.findBySemesterAndStudentIds(semester, studentIds)) {
+            summaries.put(summary.getStudent().getStudentId(), writeJson(GradeInquiryService.toSummaryResponse(summary)));
+        }
+        Map<Long, List<GradeDetailResponse>> grades = new HashMap<>();
+        for (Grade grade : gradeRepository.findBySemesterAndStudentIds(semester, studentIds)) {
+            grades.computeIfAbsent(grade.getEnrollment().getStudent().getStudentId(), id -> new ArrayList<>())
+                    .add(GradeInquiryService.toDetailResponse(grade));
+        }
+        Map<Long, GradeReadModel> existing = new HashMap<>();
+        for (GradeReadModel model : readModelRepository.findAllById(studentIds.stream()
+                .map(studentId -> new GradeReadModel.Key(studentId, semester))
+                .toList())) {
+            existing.put(model.getStudentId(), model);
+        }
+
+        int changed = 0;
+        for (Long studentId : studentIds) {
+            GradeReadModel model = existing.get(studentId);
+            if (upsertIfChanged(studentId, semester, summaries.get(studentId),
+                    gradesJson(grades.getOrDefault(studentId, List.of())), model,
+                    model == null ? null : model.getSourceUpdatedAt())) {
+                pendingKeys.remove(new GradeReadModel.Key(studentId, semester));
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    private boolean upsertIfChanged(Long studentId, String semester, String summaryJson, String gradesJson,
+                                    GradeReadModel existing, LocalDateTime sourceUpdatedAt) {
+        if (existing != null
+                && Objects.equals(existing.getSummaryJson(), summaryJson)
+                && Objects.equals(existing.getGradesJson(), gradesJson)) {
+            return false;
+        }
+        readModelRepository.upsert(studentId, semester, summaryJson, gradesJson, sourceUpdatedAt);
+        return true;
+    }
+
+    /**
+     * 변경된 원본 행을 찾아 조회 모델을 갱신하고, 이 Pod의 캐시에서 해당 키를 제거한다.
+     * 모든 Pod가 각자 실행하지만 내용이 같으면 쓰지 않으므로 실제 UPDATE는 한 번만 일어난다.
+     */
+    @Scheduled(fixedDelayString = "${grade.read-model.sync-interval-ms:30000}",
+               initialDelayString = "${grade.read-model.initial-delay-ms:15000}")
+    public void syncChanges() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (watermark == null) {
+                watermark = readModelRepository.findMaxSourceUpdatedAt().orElse(LocalDateTime.now());
+            }
+
+            // 커밋이 늦게 끝나 워터마크보다 이전 시각으로 보이는 변경을 놓치지 않도록 lookback 구간을 다시 조회한다
+            LocalDateTime since = watermark.minusSeconds(lookbackSeconds);
+            recentlyApplied.values().removeIf(updatedAt -> updatedAt.isBefore(since));
+
+            Map<GradeReadModel.Key, LocalDateTime> changed = new HashMap<>();
+            collectChanged(changed, gradeRepository.findChangedKeysSince(since));
+            collectChanged(changed, summaryRepository.findChangedKeysSince(since));
+            collectChanged(changed, enrollmentRepository.findChangedKeysSince(since));
+            collectChanged(changed, enrollmentRepository.findCourseChangedKeysSince(since));
+            collectChanged(changed, readModelRepository.findChangedKeysSince(since));
+            changed.entrySet().removeIf(entry -> {
+                LocalDateTime applied = recentlyApplied.get(entry.getKey());
+                return applied != null && !entry.getValue().isAfter(applied);
+            });
+
+            // 오래된 변경부터 처리하고, 한 주기의 처리량을 넘으면 같은 시각의 키까지만 처리한 뒤 워터마크를 올린다
+            List<Map.Entry<GradeReadModel.Key, LocalDateTime>> ordered = changed.entrySet().stream()
+                    .sorted(Map.Entry.comparingByValue())
+                    .toList();
+            LocalDateTime cutoff = ordered.size() > maxKeysPerSync
+                    ? ordered.get(maxKeysPerSync - 1).getValue()
+                    : null;
+
+            for (Map.Entry<GradeReadModel.Key, LocalDateTime> entry : ordered) {
+                if (cutoff != null && entry.getValue().isAfter(cutoff)) {
+                    break;
+                }
+                GradeReadModel.Key key = entry.getKey();
+                rebuild(key.getStudentId(), key.getSemester(), entry.getValue());
+                cacheInvalidationService.evictLocal(key.getStudentId(), key.getSemester());
+                pendingKeys.remove(key);
+                recentlyApplied.put(key, entry.getValue());
+                if (entry.getValue().isAfter(watermark)) {
+                    watermark = entry.getValue();
+                }
+            }
+
+            for (GradeReadModel.Key key : List.copyOf(pendingKeys)) {
+                rebuild(key.getStudentId(), key.getSemester(), null);
+                pendingKeys.remove(key);
+            }
+
+            reconcileDeletes();
+        } catch (Exception e) {
+            log.warn("Failed to sync grade read model: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 과목 수가 원본 성적 수와 다른 행을 다시 만든다 (성적 삭제, 수강 취소, 다른 학기로 옮긴 수강).
+     * 다시 만든 행은 updated_at이 바뀌므로 다른 Pod도 다음 동기화에서 캐시를 비운다.
+     */
+    private void reconcileDeletes() {
+        GradeReadModel.Key cursor = reconcileCursor;
+        List<Object[]> rows = readModelRepository.findAfter(cursor.getStudentId(), cursor.getSemester(),
+                PageRequest.of(0, Math.max(1, reconcileKeysPerSync)));
+        if (rows.isEmpty()) {
+            reconcileCursor = FIRST_KEY;
+            return;
+        }
+
+        Object[] last = rows.get(rows.size() - 1);
+        Map<GradeReadModel.Key, Long> sourceCounts = new HashMap<>();
+        for (Object[] row : gradeRepository.countByStudentRange((Long) rows.get(0)[0], (Long) last[0])) {
+            sourceCounts.put(new GradeReadModel.Key((Long) row[0], (String) row[1]), (Long) row[2]);
+        }
+
+        int rebuilt = 0;
+        for (Object[] row : rows) {
+            GradeReadModel.Key key = new GradeReadModel.Key((Long) row[0], (String) row[1]);
+            if (storedCount((String) row[2]) == sourceCounts.getOrDefault(key, 0L)) {
+                continue;
+            }
+            rebuild(key.getStudentId(), key.getSemester(), (LocalDateTime) row[3]);
+            cacheInvalidationService.evictLocal(key.getStudentId(), key.getSemester());
+            rebuilt++;
+        }
+        if (rebuilt > 0) {
+            log.info("Rebuilt {} grade read model rows whose grades were removed at the source", rebuilt);
+        }
+        reconcileCursor = rows.size() < reconcileKeysPerSync
+                ? FIRST_KEY
+                : new GradeReadModel.Key((Long) last[0], (String) last[1]);
+    }
+
+    private long storedCount(String gradesJson) {
+        try {
+            return objectMapper.readTree(gradesJson).size();
+        } catch (JsonProcessingException e) {
+            return -1;
+        }
+    }
+
+    private void collectChanged(Map<GradeReadModel.Key, LocalDateTime> changed, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            LocalDateTime updatedAt = (LocalDateTime) row[2];
+            if (updatedAt == null) {
+                continue;
+            }
+            changed.merge(new GradeReadModel.Key((Long) row[0], (String) row[1]), updatedAt,
+                    (a, b) -> a.isAfter(b) ? a : b);
+        }
+    }
+
+    private GradeSnapshot toSnapshot(GradeReadModel model) {
+        try {
+            GradeSummaryResponse summary = model.getSummaryJson() == null
+                    ? null : objectMapper.readValue(model.getSummaryJson(), GradeSummaryResponse.class);
+            return new GradeSnapshot(summary, objectMapper.readValue(model.getGradesJson(), GRADE_LIST_TYPE));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupted grade read model for "
+                    + model.getStudentId() + ":" + model.getSemester(), e);
+        }
+    }
+
+    private String gradesJson(List<GradeDetailResponse> grades) {
+        List<GradeDetailResponse> ordered = new ArrayList<>(grades);
+        ordered.sort(GRADE_ORDER);
+        return writeJson(ordered);
+    }
+
+    private String writeJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize grade read model", e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class GradeSnapshot {
+        private final GradeSummaryResponse summary; // 요약이 없는 학기는 null
+        private final List<GradeDetailResponse> grades;
+    }
+}
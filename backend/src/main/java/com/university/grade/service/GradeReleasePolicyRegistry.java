@@ -0,0 +1,80 @@
+package com.university.grade.service;
+
+import com.university.grade.cache.SingleFlight;
+import com.university.grade.entity.GradeReleasePolicy;
+import com.university.grade.repository.GradeReleasePolicyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 모든 학기의 성적 공개 정책을 메모리에 보관한다.
+ * 백그라운드에서 주기적으로 갱신하며, release_at이 지나면 DB 조회 없이 공개 상태로 판단한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GradeReleasePolicyRegistry {
+    private final GradeReleasePolicyRepository policyRepository;
+    private final SingleFlight singleFlight;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Map<String, PolicySnapshot> snapshots;
+
+    public boolean isReleased(String semester) {
+        return isReleased(semester, LocalDateTime.now());
+    }
+
+    public boolean isReleased(String semester, LocalDateTime now) {
+        Map<String, PolicySnapshot> current = snapshots;
+        if (current == null) {
+            // 기동 직후 동시에 들어온 요청은 한 번의 조회 결과를 함께 사용
+            current = singleFlight.execute("releasePolicy", "all", this::refresh);
+        }
+        PolicySnapshot snapshot = current.get(semester);
+        return snapshot != null && snapshot.isReleasedAt(now);
+    }
+
+    @Scheduled(fixedDelayString = "${grade.release-policy.refresh-interval-ms:30000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            // 갱신에 실패하면 마지막 스냅샷을 계속 사용한다
+            log.warn("Failed to refresh grade release policies: {}", e.getMessage());
+        }
+    }
+
+    public Map<String, PolicySnapshot> refresh() {
+        // DB 조회 중에도 가상 스레드가 캐리어 스레드를 붙잡지 않도록 synchronized 대신 ReentrantLock 사용
+        refreshLock.lock();
+        try {
+            Map<String, PolicySnapshot> loaded = policyRepository.findAll().stream()
+                    .map(PolicySnapshot::from)
+                    .collect(Collectors.toUnmodifiableMap(PolicySnapshot::semester, Function.identity(), (a, b) -> b));
+            snapshots = loaded;
+            log.debug("Grade release policies refreshed - {} semesters", loaded.size());
+            return loaded;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public record PolicySnapshot(String semester, boolean released, LocalDateTime releaseAt) {
+        static PolicySnapshot from(GradeReleasePolicy policy) {
+            return new PolicySnapshot(policy.getSemester(),
+                    Boolean.TRUE.equals(policy.getIsReleased()), policy.getReleaseAt());
+        }
+
+        boolean isReleasedAt(LocalDateTime now) {
+            return released || (releaseAt != null && !now.isBefore(releaseAt));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.university.grade.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 성적 조회 응답을 직렬화된 UTF-8 JSON 바이트(및 gzip 사본)로 캐시한다.
+ * 캐시 히트 시 Jackson 직렬화 없이 바이트를 그대로 응답 스트림에 쓴다.
+ * 키는 DTO 캐시와 같은 studentId:semester 이며, CacheInvalidationService가 DTO 캐시와 함께 제거한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GradeResponseCache {
+    public static final String SUMMARY_CACHE = "gradeSummaryJson";
+    public static final String LIST_CACHE = "gradeListJson";
+
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${grade.cache.response.enabled:true}")
+    private boolean enabled;
+
+    @Value("${grade.cache.response.gzip-min-bytes:1024}")
+    private int gzipMinBytes;
+
+    /**
+     * 캐시된 응답을 반환하고, 없으면 loader의 결과(DTO)를 직렬화하여 저장한다.
+     * loader가 예외를 던지면 아무것도 캐시하지 않는다.
+     */
+    public SerializedResponse get(String cacheName, Long studentId, String semester, Supplier<?> loader) {
+        Cache cache = enabled ? cacheManager.getCache(cacheName) : null;
+        if (cache == null) {
+            return serialize(loader.get());
+        }
+        return cache.get(studentId + ":" + semester, () -> serialize(loader.get()));
+    }
+
+    private SerializedResponse serialize(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            return new SerializedResponse(json, json.length >= gzipMinBytes ? gzip(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize grade response", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @param json 인코딩된 UTF-8 JSON
+     * @param gzip gzip 압축본 (gzip-min-bytes 미만이면 null)
+     */
+    public record SerializedResponse(byte[] json, byte[] gzip) {
+
+        public boolean useGzip(String acceptEncoding) {
+            return gzip != null && acceptEncoding != null && acceptEncoding.contains("gzip");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.university.grade.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * /actuator/gradesummary - 학기 전체 GPA 재계산 시작(POST {"semester": "2024-2"})과 진행 상태 조회.
+ * 쓰기 작업이므로 기본 노출 목록에는 넣지 않는다.
+ */
+@Component
+@Endpoint(id = "gradesummary")
+@RequiredArgsConstructor
+public class GradeSummaryEndpoint {
+    private final GradeSummaryEngine engine;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return engine.status();
+    }
+
+    @WriteOperation
+    public Map<String, Object> rebuild(String semester) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("semester", semester);
+        result.put("started", engine.startRebuild(semester));
+        return result;
+    }
+}
@@ -0,0 +1,284 @@
+package com.university.grade.service;
+
+import com.university.grade.repository.EnrollmentRepository;
+import com.university.grade.repository.GradeRepository;
+import com.university.grade.repository.GradeSummaryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * GRADE_SUMMARY(GPA, 이수 학점)를 GRADES에서 계산하여 유지한다.
+ * <ul>
+ *   <li>증분: GRADES/ENROLLMENTS/COURSES.updated_at 변경을 주기적으로 감지하여 바뀐 학생/학기만 다시 계산 (앱 밖에서 바뀐 성적 포함)</li>
+ *   <li>삭제 감지: 성적 삭제/수강 취소는 updated_at이 남지 않으므로, 주기마다 GRADE_SUMMARY 키를 reconcile-keys-per-sync 개씩
+ *       돌아가며 다시 계산한다 (값이 같으면 쓰지 않고, 등급이 남지 않은 학생/학기의 요약은 삭제)</li>
+ *   <li>학기 전체: 학생 번호 범위를 chunk-size 단위로 나누어 fork/join으로 병렬 계산하고, 범위마다 한 트랜잭션으로 upsert</li>
+ * </ul>
+ * 값이 바뀐 키는 같은 트랜잭션에서 조회 모델을 다시 만들고, 캐시 무효화 이벤트로 모든 Pod의 캐시에서 제거된다.
+ */
+@Service
+@Slf4j
+public class GradeSummaryEngine {
+    private final GradeSummaryWriter writer;
+    private final GradeRepository gradeRepository;
+    private final GradeSummaryRepository summaryRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final boolean syncEnabled;
+    private final int maxKeysPerSync;
+    private final long lookbackSeconds;
+    private final int reconcileKeysPerSync;
+    private final int chunkSize;
+    private final ForkJoinPool rebuildPool;
+    private final Counter syncUpdated;
+    private final Counter rebuildUpdated;
+    private final Timer rebuildTimer;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile String rebuildingSemester;
+    private volatile Map<String, Object> lastRebuild;
+    private volatile LocalDateTime watermark;
+    // lookback 구간에서 다시 조회되는 변경의 중복 계산을 막기 위한 기록 ("studentId:semester" -> 반영한 updated_at)
+    private final Map<String, LocalDateTime> recentlyApplied = new ConcurrentHashMap<>();
+    // 삭제 감지 순회 위치 [studentId, semester] (이 키 다음부터 다시 계산)
+    private volatile Object[] reconcileCursor = {0L, ""};
+
+    public GradeSummaryEngine(GradeSummaryWriter writer,
+                              GradeRepository gradeRepository,
+                              GradeSummaryRepository summaryRepository,
+                              EnrollmentRepository enrollmentRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${grade.summary.sync.enabled:true}") boolean syncEnabled,
+                              @Value("${grade.summary.sync.max-keys-per-sync:2000}") int maxKeysPerSync,
+                              @Value("${grade.summary.sync.lookback-seconds:10}") long lookbackSeconds,
+                              @Value("${grade.summary.sync.reconcile-keys-per-sync:2000}") int reconcileKeysPerSync,
+                              @Value("${grade.summary.rebuild.parallelism:4}") int parallelism,
+                              @Value("${grade.summary.rebuild.chunk-size:1000}") int chunkSize) {
+        this.writer = writer;
+        this.gradeRepository = gradeRepository;
+        this.summaryRepository = summaryRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.syncEnabled = syncEnabled;
+        this.maxKeysPerSync = Math.max(1, maxKeysPerSync);
+        this.lookbackSeconds = Math.max(0, lookbackSeconds);
+        this.reconcileKeysPerSync = Math.max(1, reconcileKeysPerSync);
+        this.chunkSize = Math.max(1, chunkSize);
+        // 작업마다 DB 커넥션 하나를 쓰므로 병렬도는 커넥션 풀보다 작게 둔다
+        this.rebuildPool = new ForkJoinPool(Math.max(1, parallelism), pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("grade-summary-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+
+        this.syncUpdated = Counter.builder("grade.summary.updated")
+                .description("GRADE_SUMMARY rows rewritten because the computed value changed")
+                .tag("mode", "sync")
+                .register(meterRegistry);
+        this.rebuildUpdated = Counter.builder("grade.summary.updated")
+                .description("GRADE_SUMMARY rows rewritten because the computed value changed")
+                .tag("mode", "rebuild")
+                .register(meterRegistry);
+        this.rebuildTimer = Timer.builder("grade.summary.rebuild")
+                .description("Time to recompute every summary of a semester")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 성적이 바뀐 학생/학기의 요약을 다시 계산한다.
+     * 모든 Pod가 각자 실행하지만 계산 결과가 저장된 값과 같으면 쓰지 않으므로 실제 UPDATE는 한 번만 일어난다.
+     */
+    @Scheduled(fixedDelayString = "${grade.summary.sync.interval-ms:10000}",
+               initialDelayString = "${grade.summary.sync.initial-delay-ms:15000}")
+    public void syncChanges() {
+        if (!syncEnabled) {
+            return;
+        }
+        try {
+            if (watermark == null) {
+                // 마지막으로 요약이 갱신된 시각 이후의 성적 변경부터 반영
+                watermark = summaryRepository.findMaxUpdatedAt().orElse(LocalDateTime.now());
+            }
+
+            // 커밋이 늦게 끝나 워터마크보다 이전 시각으로 보이는 변경을 놓치지 않도록 lookback 구간을 다시 조회한다
+            LocalDateTime since = watermark.minusSeconds(lookbackSeconds);
+            recentlyApplied.values().removeIf(updatedAt -> updatedAt.isBefore(since));
+
+            List<Object[]> rows = new ArrayList<>(gradeRepository.findChangedKeysSince(since));
+            rows.addAll(enrollmentRepository.findChangedKeysSince(since));
+            rows.addAll(enrollmentRepository.findCourseChangedKeysSince(since));
+            rows.removeIf(row -> {
+                if (row[2] == null) {
+                    return true;
+                }
+                LocalDateTime applied = recentlyApplied.get(row[0] + ":" + row[1]);
+                return applied != null && !((LocalDateTime) row[2]).isAfter(applied);
+            });
+            rows.sort((a, b) -> ((LocalDateTime) a[2]).compareTo((LocalDateTime) b[2]));
+            // 한 주기의 처리량을 넘으면 같은 시각의 키까지만 처리한 뒤 워터마크를 올린다
+            LocalDateTime cutoff = rows.size() > maxKeysPerSync ? (LocalDateTime) rows.get(maxKeysPerSync - 1)[2] : null;
+
+            Map<String, TreeSet<Long>> studentsBySemester = new HashMap<>();
+            Map<String, LocalDateTime> processed = new HashMap<>();
+            LocalDateTime processedUpTo = null;
+            for (Object[] row : rows) {
+                LocalDateTime updatedAt = (LocalDateTime) row[2];
+                if (cutoff != null && updatedAt.isAfter(cutoff)) {
+                    break;
+                }
+                studentsBySemester.computeIfAbsent((String) row[1], semester -> new TreeSet<>()).add((Long) row[0]);
+                processed.put(row[0] + ":" + row[1], updatedAt);
+                processedUpTo = updatedAt;
+            }
+
+            rebuildStudents(studentsBySemester);
+            recentlyApplied.putAll(processed);
+            if (processedUpTo != null && processedUpTo.isAfter(watermark)) {
+                watermark = processedUpTo;
+            }
+
+            reconcileDeletes();
+        } catch (Exception e) {
+            log.warn("Failed to sync grade summaries: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 요약을 reconcile-keys-per-sync 개씩 돌아가며 다시 계산한다.
+     * 성적 삭제나 수강 취소로 바뀐 요약은 updated_at 변경으로는 잡히지 않기 때문이다.
+     */
+    private void reconcileDeletes() {
+        Object[] cursor = reconcileCursor;
+        List<Object[]> keys = summaryRepository.findKeysAfter((Long) cursor[0], (String) cursor[1],
+                PageRequest.of(0, reconcileKeysPerSync));
+        Map<String, TreeSet<Long>> studentsBySemester = new HashMap<>();
+        for (Object[] key : keys) {
+            studentsBySemester.computeIfAbsent((String) key[1], semester -> new TreeSet<>()).add((Long) key[0]);
+        }
+        rebuildStudents(studentsBySemester);
+        reconcileCursor = keys.size() < reconcileKeysPerSync ? new Object[]{0L, ""} : keys.get(keys.size() - 1);
+    }
+
+    private void rebuildStudents(Map<String, TreeSet<Long>> studentsBySemester) {
+        for (Map.Entry<String, TreeSet<Long>> entry : studentsBySemester.entrySet()) {
+            List<Long> studentIds = new ArrayList<>(entry.getValue());
+            for (int from = 0; from < studentIds.size(); from += chunkSize) {
+                List<Long> chunk = studentIds.subList(from, Math.min(studentIds.size(), from + chunkSize));
+                syncUpdated.increment(writer.rebuildStudents(entry.getKey(), chunk).updated());
+            }
+        }
+    }
+
+    /**
+     * 학기 전체 요약을 다시 계산한다. 이미 실행 중이면 false.
+     */
+    public boolean startRebuild(String semester) {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        rebuildingSemester = semester;
+        rebuildPool.execute(() -> {
+            try {
+                rebuildSemester(semester);
+            } catch (Exception e) {
+                log.error("Grade summary rebuild for semester {} failed", semester, e);
+                lastRebuild = Map.of("semester", semester, "error", String.valueOf(e.getMessage()));
+            } finally {
+                rebuildingSemester = null;
+                rebuilding.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 학생 번호 범위를 나누어 병렬로 계산한다. 범위마다 커밋되므로 중간에 실패해도 처리된 범위는 반영된다.
+     */
+    public GradeSummaryWriter.Result rebuildSemester(String semester) {
+        List<Object[]> range = enrollmentRepository.findStudentIdRangeBySemester(semester);
+        if (range.isEmpty() || range.get(0)[0] == null) {
+            log.info("No enrollments for semester {}, nothing to rebuild", semester);
+            return GradeSummaryWriter.Result.EMPTY;
+        }
+        long from = (Long) range.get(0)[0];
+        long to = (Long) range.get(0)[1];
+
+        long started = System.nanoTime();
+        GradeSummaryWriter.Result result = rebuildTimer.record(() -> rebuildPool.invoke(new RangeTask(semester, from, to)));
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        rebuildUpdated.increment(result.updated());
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("semester", semester);
+        status.put("students", result.students());
+        status.put("updated", result.updated());
+        status.put("elapsedMs", elapsedMs);
+        status.put("finishedAt", LocalDateTime.now().toString());
+        lastRebuild = status;
+        log.info("Rebuilt grade summaries for semester {} - students: {}, updated: {}, elapsed: {}ms",
+                semester, result.students(), result.updated(), elapsedMs);
+        return result;
+    }
+
+    /**
+     * 진행 중인 재계산과 마지막 결과 (/actuator/gradesummary).
+     */
+    public Map<String, Object> status() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("rebuilding", rebuildingSemester);
+        result.put("lastRebuild", lastRebuild);
+        result.put("syncWatermark", watermark == null ? null : watermark.toString());
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildPool.shutdownNow();
+    }
+
+    /**
+     * [from, to] 학생 번호 범위를 chunk-size 이하가 될 때까지 둘로 나눈다.
+     */
+    private class RangeTask extends RecursiveTask<GradeSummaryWriter.Result> {
+        private final String semester;
+        private final long from;
+        private final long to;
+
+        RangeTask(String semester, long from, long to) {
+            this.semester = semester;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected GradeSummaryWriter.Result compute() {
+            if (to - from < chunkSize) {
+                return writer.rebuildRange(semester, from, to);
+            }
+            long mid = from + (to - from) / 2;
+            RangeTask left = new RangeTask(semester, from, mid);
+            RangeTask right = new RangeTask(semester, mid + 1, to);
+            left.fork();
+            GradeSummaryWriter.Result rightResult = right.compute();
+            return left.join().plus(rightResult);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.university.grade.service;
+
+import com.university.grade.repository.GradeRepository;
+import com.university.grade.repository.GradeSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * GRADES에서 학생/학기 GPA와 이수 학점을 다시 계산하여 GRADE_SUMMARY에 반영한다.
+ * 값이 바뀐 행만 JDBC 배치 upsert로 쓰고, 같은 트랜잭션에서 해당 키의 조회 모델(GRADE_READ_MODEL) 행을 다시 만든 뒤
+ * 캐시 무효화 이벤트를 발행한다 (이벤트를 받은 Pod가 캐시 미스 때 이전 GPA를 조회 모델에서 다시 읽지 않도록).
+ * <ul>
+ *   <li>GPA: 등급이 있는 과목의 (학점 x 평점) 합 / 학점 합 (F 포함, P/NP 제외), 소수 둘째 자리 반올림</li>
+ *   <li>이수 학점: 등급이 입력된 과목의 학점 합 (NP 제외)</li>
+ * </ul>
+ * 등급이 입력된 과목이 하나도 없는 학생/학기는 요약을 만들지 않고, 이전에 만든 요약이 남아 있으면 삭제한다
+ * (성적 삭제, 수강 취소 후 이전 GPA가 남지 않도록).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GradeSummaryWriter {
+    private static final String UPSERT_SUMMARY = "INSERT INTO GRADE_SUMMARY "
+            + "(student_id, semester, gpa, total_credits, updated_at) VALUES (?, ?, ?, ?, NOW()) "
+            + "ON DUPLICATE KEY UPDATE gpa = VALUES(gpa), total_credits = VALUES(total_credits), updated_at = NOW()";
+    private static final String DELETE_SUMMARY = "DELETE FROM GRADE_SUMMARY WHERE student_id = ? AND semester = ?";
+    // 4.5 만점 평점 (+/0 등급은 0.5 간격, - 등급은 화면 등급 표의 값)
+    private static final Map<String, BigDecimal> GRADE_POINTS = Map.ofEntries(
+            Map.entry("A+", new BigDecimal("4.5")), Map.entry("A0", new BigDecimal("4.0")), Map.entry("A-", new BigDecimal("3.7")),
+            Map.entry("B+", new BigDecimal("3.5")), Map.entry("B0", new BigDecimal("3.0")), Map.entry("B-", new BigDecimal("2.7")),
+            Map.entry("C+", new BigDecimal("2.5")), Map.entry("C0", new BigDecimal("2.0")), Map.entry("C-", new BigDecimal("1.7")),
+            Map.entry("D+", new BigDecimal("1.5")), Map.entry("D0", new BigDecimal("1.0")), Map.entry("D-", new BigDecimal("0.7")),
+            Map.entry("F", BigDecimal.ZERO));
+    private static final String PASS = "P";
+    private static final String NON_PASS = "NP";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GradeRepository gradeRepository;
+    private final GradeSummaryRepository summaryRepository;
+    private final GradeReadModelService readModelService;
+    private final CacheInvalidationService cacheInvalidationService;
+
+    /**
+     * 학생 번호 범위 [fromStudentId, toStudentId]의 학기 요약을 다시 계산한다 (학기 전체 재계산의 작업 단위).
+     */
+    @Transactional
+    public Result rebuildRange(String semester, long fromStudentId, long toStudentId) {
+        return write(semester, summarize(gradeRepository.findCreditsAndLettersInRange(semester, fromStudentId, toStudentId)),
+                summaryRepository.findValuesBySemesterInRange(semester, fromStudentId, toStudentId));
+    }
+
+    /**
+     * 성적이 바뀐 학생들의 학기 요약을 다시 계산한다.
+     */
+    @Transactional
+    public Result rebuildStudents(String semester, Collection<Long> studentIds) {
+        if (studentIds.isEmpty()) {
+            return Result.EMPTY;
+        }
+        return write(semester, summarize(gradeRepository.findCreditsAndLetters(semester, studentIds)),
+                summaryRepository.findValuesBySemesterAndStudentIds(semester, studentIds));
+    }
+
+    /**
+     * @param stored 대상 학생들의 저장된 요약 [studentId, gpa, totalCredits]
+     */
+    private Result write(String semester, Map<Long, Summary> computed, List<Object[]> stored) {
+        Map<Long, Summary> existing = new HashMap<>();
+        List<Long> removed = new ArrayList<>();
+        for (Object[] row : stored) {
+            Long studentId = (Long) row[0];
+            if (!computed.containsKey(studentId)) {
+                removed.add(studentId);
+            } else if (row[1] != null && row[2] != null) {
+                existing.put(studentId, new Summary((BigDecimal) row[1], (Integer) row[2]));
+            }
+        }
+
+        // 모든 Pod가 같은 값을 계산하므로 저장된 값과 같으면 쓰지 않는다 (updated_at도 그대로 둠)
+        List<Map.Entry<Long, Summary>> changed = new ArrayList<>();
+        for (Map.Entry<Long, Summary> entry : computed.entrySet()) {
+            if (!entry.getValue().sameAs(existing.get(entry.getKey()))) {
+                changed.add(entry);
+            }
+        }
+        if (changed.isEmpty() && removed.isEmpty()) {
+            return new Result(computed.size(), 0);
+        }
+
+        if (!removed.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SUMMARY, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    ps.setLong(1, removed.get(i));
+                    ps.setString(2, semester);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return removed.size();
+                }
+            });
+        }
+
+        if (!changed.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SUMMARY, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    Map.Entry<Long, Summary> entry = changed.get(i);
+                    ps.setLong(1, entry.getKey());
+                    ps.setString(2, semester);
+                    ps.setBigDecimal(3, entry.getValue().gpa());
+                    ps.setInt(4, entry.getValue().totalCredits());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return changed.size();
+                }
+            });
+        }
+
+        List<Long> affected = new ArrayList<>(removed);
+        changed.forEach(entry -> affected.add(entry.getKey()));
+        readModelService.rebuildAll(semester, affected);
+        cacheInvalidationService.publishAll(affected.stream()
+                .map(studentId -> new CacheInvalidationService.InvalidationTarget(studentId, semester,
+                        "Grade summary recomputed"))
+                .toList());
+        return new Result(computed.size(), affected.size());
+    }
+
+    /**
+     * [studentId, credit, gradeLetter] 행을 학생별 요약으로 합친다.
+     */
+    static Map<Long, Summary> summarize(List<Object[]> rows) {
+        Map<Long, long[]> totals = new TreeMap<>();
+        Map<Long, BigDecimal> weightedPoints = new HashMap<>();
+        for (Object[] row : rows) {
+            Long studentId = (Long) row[0];
+            int credit = row[1] == null ? 0 : (Integer) row[1];
+            String letter = row[2] == null ? null : ((String) row[2]).trim().toUpperCase();
+            if (letter == null || letter.isEmpty() || NON_PASS.equals(letter)) {
+                continue;
+            }
+            BigDecimal points = GRADE_POINTS.get(letter);
+            if (points == null && !PASS.equals(letter)) {
+                log.debug("Skipping unknown grade letter {} for student {}", letter, studentId);
+                continue;
+            }
+            // [이수 학점, GPA 반영 학점]
+            long[] credits = totals.computeIfAbsent(studentId, id -> new long[2]);
+            credits[0] += credit;
+            if (points != null) {
+                credits[1] += credit;
+                weightedPoints.merge(studentId, points.multiply(BigDecimal.valueOf(credit)), BigDecimal::add);
+            }
+        }
+
+        Map<Long, Summary> summaries = new TreeMap<>();
+        totals.forEach((studentId, credits) -> {
+            BigDecimal gpa = credits[1] == 0
+                    ? BigDecimal.ZERO.setScale(2)
+                    : weightedPoints.getOrDefault(studentId, BigDecimal.ZERO)
+                            .divide(BigDecimal.valueOf(credits[1]), 2, RoundingMode.HALF_UP);
+            summaries.put(studentId, new Summary(gpa, (int) credits[0]));
+        });
+        return summaries;
+    }
+
+    record Summary(BigDecimal gpa, int totalCredits) {
+        boolean sameAs(Summary stored) {
+            return stored != null && stored.gpa().compareTo(gpa) == 0 && stored.totalCredits() == totalCredits;
+        }
+    }
+
+    /**
+     * @param students 요약을 계산한 학생 수
+     * @param updated  값이 바뀌어 GRADE_SUMMARY에 쓰거나 삭제한 행 수
+     */
+    public record Result(int students, int updated) {
+        static final Result EMPTY = new Result(0, 0);
+
+        Result plus(Result other) {
+            return new Result(students + other.students, updated + other.updated);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.university.grade.service;
+
+import com.university.grade.cache.SingleFlight;
+import com.university.grade.repository.GradeReadModelRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 성적 응답의 HTTP 검증자(ETag/Last-Modified)에 쓰는 버전 스탬프.
+ * GRADE_READ_MODEL.updated_at을 사용하므로 모든 Pod에서 같은 값이 나오며,
+ * gradeVersion 캐시는 gradeList/gradeSummary와 함께 무효화된다.
+ * 같은 브라우저를 다른 학생이 쓰는 경우를 고려해 ETag에는 studentId를 포함한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class GradeVersionService {
+    private final GradeReadModelRepository readModelRepository;
+    private final SingleFlight singleFlight;
+
+    @Cacheable(value = "gradeVersion", key = "#studentId + ':' + #semester", unless = "#result == null")
+    public Optional<LocalDateTime> getVersion(Long studentId, String semester) {
+        return singleFlight.execute("gradeVersion", studentId + ":" + semester,
+                () -> readModelRepository.findUpdatedAt(studentId, semester));
+    }
+
+    /**
+     * 캐시를 거치지 않는 조회 (캐시 로더용). 조회 모델 행이 없으면 null.
+     */
+    @Transactional(readOnly = true)
+    public LocalDateTime loadVersion(Long studentId, String semester) {
+        return readModelRepository.findUpdatedAt(studentId, semester).orElse(null);
+    }
+
+    public static long toEpochMillis(LocalDateTime version) {
+        return version.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public static String entityTag(String prefix, LocalDateTime version) {
+        return "W/\"" + prefix + "-" + Long.toHexString(toEpochMillis(version)) + "\"";
+    }
+
+    public static String entityTag(Long studentId, List<String> semesters) {
+        return "W/\"s-" + studentId + "-" + Integer.toHexString(semesters.hashCode()) + "\"";
+    }
+}
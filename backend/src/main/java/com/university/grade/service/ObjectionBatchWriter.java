@@ -0,0 +1,91 @@
+package com.university.grade.service;
+
+import com.university.grade.entity.GradeObjection;
+import com.university.grade.repository.GradeObjectionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 접수된 이의신청과 캐시 무효화 이벤트를 한 트랜잭션의 JDBC 배치로 저장한다.
+ * GRADE_OBJECTIONS는 IDENTITY 키라 Hibernate가 INSERT를 배치하지 못하므로 JdbcTemplate을 사용한다
+ * (MySQL은 rewriteBatchedStatements=true일 때 다중 행 INSERT 한 번으로 전송).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ObjectionBatchWriter {
+    private static final String INSERT_OBJECTION = "INSERT INTO GRADE_OBJECTIONS "
+            + "(enrollment_id, title, reason, status, ticket_id, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GradeObjectionRepository objectionRepository;
+    private final CacheInvalidationService cacheInvalidationService;
+
+    /**
+     * @return ticketId -> objectionId (저널에서 복구했거나 다시 시도하는 항목 중 이미 저장된 것은 제외)
+     */
+    @Transactional
+    public Map<String, Long> write(List<ObjectionSubmission> submissions) {
+        List<ObjectionSubmission> toInsert = submissions;
+        if (submissions.stream().anyMatch(ObjectionSubmission::replayed)) {
+            Set<String> existing = new HashSet<>(objectionRepository.findExistingTicketIds(
+                    submissions.stream().map(ObjectionSubmission::ticketId).toList()));
+            toInsert = submissions.stream().filter(s -> !existing.contains(s.ticketId())).toList();
+            if (!existing.isEmpty()) {
+                log.info("Skipping {} recovered or retried objections that were already saved", existing.size());
+            }
+        }
+        if (toInsert.isEmpty()) {
+            return Map.of();
+        }
+
+        List<ObjectionSubmission> rows = toInsert;
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_OBJECTION, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ObjectionSubmission submission = rows.get(i);
+                        ps.setLong(1, submission.enrollmentId());
+                        ps.setString(2, submission.title());
+                        ps.setString(3, submission.reason());
+                        ps.setString(4, GradeObjection.ObjectionStatus.PENDING.name());
+                        ps.setString(5, submission.ticketId());
+                        ps.setObject(6, submission.acceptedAt());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                }, keyHolder);
+
+        Map<String, Long> objectionIds = new LinkedHashMap<>();
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < rows.size(); i++) {
+            objectionIds.put(rows.get(i).ticketId(), ((Number) keys.get(i).values().iterator().next()).longValue());
+        }
+
+        // 시스템 이벤트 발행 (해당 학생/학기 캐시만 전체 Pod에서 무효화)
+        cacheInvalidationService.publishAll(rows.stream()
+                .map(s -> new CacheInvalidationService.InvalidationTarget(s.studentId(), s.semester(),
+                        "Grade objection created: " + objectionIds.get(s.ticketId())))
+                .toList());
+        return objectionIds;
+    }
+}
@@ -0,0 +1,372 @@
+package com.university.grade.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.university.grade.dto.ObjectionRequest;
+import com.university.grade.dto.ObjectionResponse;
+import com.university.grade.exception.ServiceOverloadedException;
+import com.university.grade.repository.EnrollmentRepository;
+import com.university.grade.repository.GradeObjectionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이의신청 비동기 접수.
+ * 요청 스레드는 검증(수강 정보 조회 1회)과 저널 기록만 하고 접수 번호를 바로 반환한다.
+ * 백그라운드 writer 하나가 대기열을 모아 이의신청과 캐시 무효화 이벤트를 JDBC 배치로 저장하므로,
+ * 마감 직전 제출이 몰려도 요청마다 커넥션을 잡고 세 번 왕복하지 않는다.
+ * 저장 결과는 접수 번호로 조회한다 (다른 Pod에서 접수한 번호는 GRADE_OBJECTIONS.ticket_id로 확인).
+ */
+@Service
+@Slf4j
+public class ObjectionIntakeService {
+    public static final String STATUS_QUEUED = "QUEUED";
+    public static final String STATUS_PERSISTED = "PERSISTED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final GradeObjectionRepository objectionRepository;
+    private final ObjectionJournal journal;
+    private final ObjectionBatchWriter batchWriter;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long retryBackoffMs;
+    private final int maxRetries;
+    private final long shutdownTimeoutMs;
+    private final long retryAfterSeconds;
+
+    // 대기열 크기 제한 (저널에서 복구된 항목은 제한에 포함하지 않음)
+    private final Semaphore capacity;
+    private final LinkedBlockingQueue<ObjectionSubmission> queue = new LinkedBlockingQueue<>();
+    private final Cache<String, TicketStatus> tickets;
+
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+    private final DistributionSummary batchSizes;
+    private final Timer flushTimer;
+    private final Timer lagTimer;
+
+    private volatile boolean accepting;
+    private volatile boolean running;
+    private Thread writer;
+
+    public ObjectionIntakeService(EnrollmentRepository enrollmentRepository,
+                                  GradeObjectionRepository objectionRepository,
+                                  ObjectionJournal journal,
+                                  ObjectionBatchWriter batchWriter,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${grade.objection.pipeline.enabled:true}") boolean enabled,
+                                  @Value("${grade.objection.pipeline.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${grade.objection.pipeline.batch-size:200}") int batchSize,
+                                  @Value("${grade.objection.pipeline.retry-backoff-ms:1000}") long retryBackoffMs,
+                                  @Value("${grade.objection.pipeline.max-retries:5}") int maxRetries,
+                                  @Value("${grade.objection.pipeline.shutdown-timeout-ms:20000}") long shutdownTimeoutMs,
+                                  @Value("${grade.objection.pipeline.retry-after-seconds:5}") long retryAfterSeconds,
+                                  @Value("${grade.objection.pipeline.ticket-ttl:1h}") Duration ticketTtl) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.objectionRepository = objectionRepository;
+        this.journal = journal;
+        this.batchWriter = batchWriter;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.retryBackoffMs = retryBackoffMs;
+        this.maxRetries = Math.max(0, maxRetries);
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.capacity = new Semaphore(queueCapacity);
+        this.tickets = Caffeine.newBuilder()
+                .maximumSize(Math.max(1000, queueCapacity * 10L))
+                .expireAfterWrite(ticketTtl)
+                .build();
+
+        Gauge.builder("objection.intake.queue.depth", queue, LinkedBlockingQueue::size)
+                .description("Accepted objections waiting for the batch writer")
+                .register(meterRegistry);
+        Gauge.builder("objection.journal.pending", journal, ObjectionJournal::getPending)
+                .description("Journaled objections not yet saved to the database")
+                .register(meterRegistry);
+        this.acceptedCounter = meterRegistry.counter("objection.intake.accepted");
+        this.rejectedCounter = Counter.builder("objection.intake.rejected")
+                .description("Objections rejected because the intake queue was full")
+                .register(meterRegistry);
+        this.retryCounter = meterRegistry.counter("objection.writer.retries");
+        this.failedCounter = meterRegistry.counter("objection.writer.failed");
+        this.batchSizes = DistributionSummary.builder("objection.writer.batch.size")
+                .description("Objections saved per JDBC batch")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("objection.writer.flush")
+                .description("Time to save one batch of objections and events")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("objection.writer.lag")
+                .description("Time from acceptance to the objection being saved")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        List<ObjectionSubmission> recovered = journal.open();
+        for (ObjectionSubmission submission : recovered) {
+            tickets.put(submission.ticketId(), TicketStatus.queued(submission.studentId()));
+            queue.add(submission);
+        }
+        running = true;
+        writer = new Thread(this::runWriter, "objection-writer");
+        writer.setDaemon(true);
+        writer.start();
+        accepting = true;
+        log.info("Objection intake pipeline started - batchSize: {}, capacity: {}, recovered: {}",
+                batchSize, capacity.availablePermits(), recovered.size());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public ObjectionResponse submit(Long studentId, ObjectionRequest request) {
+        if (!accepting) {
+            throw new ServiceOverloadedException("이의신청 접수를 일시적으로 받을 수 없습니다. 잠시 후 다시 시도해주세요.",
+                    retryAfterSeconds);
+        }
+        validate(request);
+
+        // 수강 신청 정보 조회 및 검증 (학생 본인의 수강 신청인지 확인)
+        EnrollmentRepository.EnrollmentOwner owner = enrollmentRepository.findOwnerByEnrollmentId(request.getEnrollmentId())
+                .orElseThrow(() -> new RuntimeException("수강 신청 정보를 찾을 수 없습니다."));
+        if (!owner.getStudentId().equals(studentId)) {
+            throw new RuntimeException("본인의 성적에 대해서만 이의신청할 수 있습니다.");
+        }
+
+        if (!capacity.tryAcquire()) {
+            rejectedCounter.increment();
+            log.warn("Objection intake rejected - queued: {}", queue.size());
+            throw new ServiceOverloadedException("이의신청 요청이 많아 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+
+        ObjectionSubmission submission = new ObjectionSubmission(UUID.randomUUID().toString(), studentId,
+                request.getEnrollmentId(), owner.getSemester(), request.getTitle(), request.getReason(),
+                LocalDateTime.now(), false);
+        try {
+            // 저널에 기록된 뒤에만 접수 응답을 보낸다
+            journal.append(submission);
+        } catch (RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+        tickets.put(submission.ticketId(), TicketStatus.queued(studentId));
+        queue.add(submission);
+        acceptedCounter.increment();
+
+        return ObjectionResponse.builder()
+                .ticketId(submission.ticketId())
+                .status(STATUS_QUEUED)
+                .message("이의신청이 접수되었습니다.")
+                .build();
+    }
+
+    /**
+     * 접수 번호의 처리 상태. 본인 접수 건이 아니거나 알 수 없는 번호면 empty.
+     */
+    public Optional<ObjectionResponse> getStatus(Long studentId, String ticketId) {
+        TicketStatus local = tickets.getIfPresent(ticketId);
+        if (local != null && local.studentId().equals(studentId)) {
+            return Optional.of(ObjectionResponse.builder()
+                    .ticketId(ticketId)
+                    .objectionId(local.objectionId())
+                    .status(local.status())
+                    .message(local.message())
+                    .build());
+        }
+        return objectionRepository.findIdByTicketIdAndStudentId(ticketId, studentId)
+                .map(objectionId -> ObjectionResponse.builder()
+                        .ticketId(ticketId)
+                        .objectionId(objectionId)
+                        .status(STATUS_PERSISTED)
+                        .message("이의신청이 저장되었습니다.")
+                        .build());
+    }
+
+    private static void validate(ObjectionRequest request) {
+        // 배치 INSERT가 NOT NULL/길이 제약으로 실패하지 않도록 접수 단계에서 확인한다
+        if (request.getEnrollmentId() == null) {
+            throw new RuntimeException("수강 신청 정보를 찾을 수 없습니다.");
+        }
+        if (request.getTitle() == null || request.getTitle().isBlank() || request.getTitle().length() > 200) {
+            throw new RuntimeException("이의신청 제목은 1자 이상 200자 이하로 입력해주세요.");
+        }
+        if (request.getReason() == null || request.getReason().isBlank()) {
+            throw new RuntimeException("이의신청 내용을 입력해주세요.");
+        }
+    }
+
+    private void runWriter() {
+        while (running || !queue.isEmpty()) {
+            ObjectionSubmission first;
+            try {
+                first = queue.poll(500, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) {
+                continue;
+            }
+            // 이전 배치를 저장하는 동안 쌓인 항목을 한 번에 가져온다 (부하가 클수록 배치가 커짐)
+            List<ObjectionSubmission> batch = new ArrayList<>(Math.min(batchSize, queue.size() + 1));
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+            if (!flush(batch, maxRetries, false)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @param retries 일시적 오류로 같은 배치를 다시 시도할 횟수
+     * @param recheck 이전 시도가 실패한 배치인지. 커밋은 됐지만 응답을 받지 못했을 수 있으므로
+     *                저널 복구 항목처럼 ticketId로 이미 저장된 항목을 걸러낸다
+     * @return false면 종료 중 중단됨 (남은 항목은 저널에 있으므로 재기동 시 저장)
+     */
+    private boolean flush(List<ObjectionSubmission> batch, int retries, boolean recheck) {
+        int attempts = 0;
+        while (true) {
+            long startedAt = System.nanoTime();
+            try {
+                // 허가 반납(resolve)은 원래 항목 기준이므로 저장할 때만 복구 항목으로 표시한다
+                Map<String, Long> objectionIds = batchWriter.write(recheck
+                        ? batch.stream().map(ObjectionSubmission::asReplayed).toList()
+                        : batch);
+                flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                batchSizes.record(batch.size());
+                for (ObjectionSubmission submission : batch) {
+                    Long objectionId = objectionIds.get(submission.ticketId());
+                    if (objectionId != null) {
+                        tickets.put(submission.ticketId(), TicketStatus.persisted(submission.studentId(), objectionId));
+                    } else {
+                        // 이전 실행에서 이미 저장된 항목: 상태는 DB에서 조회
+                        tickets.invalidate(submission.ticketId());
+                    }
+                    lagTimer.record(Duration.between(submission.acceptedAt(), LocalDateTime.now()));
+                }
+                resolve(batch);
+                return true;
+            } catch (DataIntegrityViolationException e) {
+                // 제약 조건 위반 등: 한 건씩 다시 저장하여 문제가 있는 항목만 실패 처리
+                return fallBack(batch, maxRetries, e);
+            } catch (RuntimeException e) {
+                if (attempts >= retries && !running) {
+                    // 종료 중에는 실패 처리하지 않고 저널에 남겨 재기동 후 저장
+                    return false;
+                }
+                if (attempts >= retries) {
+                    // 재시도로 해결되지 않는 오류가 writer를 무한히 붙잡지 않도록 한 건씩 저장하고 남은 항목은 실패 처리
+                    return fallBack(batch, 0, e);
+                }
+                // DB 연결 실패 등 일시적 오류: 저널에 남아 있으므로 잃지 않고 같은 배치를 다시 시도
+                attempts++;
+                recheck = true;
+                retryCounter.increment();
+                log.warn("Failed to save {} objections, retrying in {}ms: {}", batch.size(), retryBackoffMs, e.getMessage());
+                try {
+                    Thread.sleep(retryBackoffMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+    }
+
+    /**
+     * 배치를 한 건씩 다시 저장한다. 한 건짜리도 실패하면 FAILED로 표시하고 저널에서 제외한다.
+     */
+    private boolean fallBack(List<ObjectionSubmission> batch, int retries, RuntimeException cause) {
+        if (batch.size() > 1) {
+            log.warn("Objection batch of {} failed ({}), retrying one by one", batch.size(), cause.getMessage());
+            for (ObjectionSubmission submission : batch) {
+                if (!flush(List.of(submission), retries, true)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        ObjectionSubmission submission = batch.get(0);
+        failedCounter.increment();
+        log.error("Failed to save objection ticket {}: {}", submission.ticketId(), cause.getMessage());
+        tickets.put(submission.ticketId(), TicketStatus.failed(submission.studentId()));
+        resolve(batch);
+        return true;
+    }
+
+    private void resolve(List<ObjectionSubmission> batch) {
+        journal.resolved(batch);
+        int permits = (int) batch.stream().filter(submission -> !submission.replayed()).count();
+        if (permits > 0) {
+            capacity.release(permits);
+        }
+    }
+
+    /**
+     * 새 접수를 막고 대기열을 저장한 뒤 종료한다. shutdown-timeout-ms 안에 끝나지 않으면
+     * 남은 항목은 저널에 두고 다음 기동 시 저장한다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (writer == null) {
+            return;
+        }
+        accepting = false;
+        running = false;
+        try {
+            writer.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            writer.interrupt();
+            log.warn("Objection writer did not drain in {}ms - {} objections left in the journal",
+                    shutdownTimeoutMs, journal.getPending());
+        }
+    }
+
+    private record TicketStatus(Long studentId, String status, Long objectionId, String message) {
+        static TicketStatus queued(Long studentId) {
+            return new TicketStatus(studentId, STATUS_QUEUED, null, "이의신청이 접수되어 저장을 기다리고 있습니다.");
+        }
+
+        static TicketStatus persisted(Long studentId, Long objectionId) {
+            return new TicketStatus(studentId, STATUS_PERSISTED, objectionId, "이의신청이 저장되었습니다.");
+        }
+
+        static TicketStatus failed(Long studentId) {
+            return new TicketStatus(studentId, STATUS_FAILED, null, "이의신청을 저장하지 못했습니다. 다시 제출해주세요.");
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.university.grade.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 접수했지만 아직 DB에 저장하지 않은 이의신청을 로컬 파일에 먼저 기록한다 (write-ahead).
+ * 접수 응답은 기록(fsync)이 끝난 뒤에 나가므로, 배치 저장 전에 프로세스가 죽어도 재기동 시 복구된다.
+ * 저널은 segment-entries 건마다 새 세그먼트 파일로 넘어가고, 항목이 모두 처리된 세그먼트는 삭제한다
+ * (접수가 끊이지 않아도 파일이 계속 커지지 않음). 디렉토리는 Pod마다 따로 사용해야 하며,
+ * Pod가 다시 만들어져도 남도록 쿠버네티스에서는 Pod별 PersistentVolume을 마운트한다.
+ */
+@Component
+@Slf4j
+public class ObjectionJournal {
+    private static final String SEGMENT_PREFIX = "objections-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    // 세그먼트 도입 전의 단일 저널 파일 (기동 시 복구 후 삭제)
+    private static final String LEGACY_FILE_NAME = "objections.log";
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final boolean fsync;
+    private final int segmentEntries;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private FileChannel channel;
+    private long activeSegment;
+    private int activeEntries;
+    // 세그먼트 번호 -> 아직 처리되지 않은 항목 수
+    private final Map<Long, Integer> outstanding = new TreeMap<>();
+    // 처리되지 않은 항목의 ticketId -> 세그먼트 번호
+    private final Map<String, Long> pendingTickets = new HashMap<>();
+    private volatile long pending;
+
+    public ObjectionJournal(ObjectMapper objectMapper,
+                            @Value("${grade.objection.journal.dir:./objection-journal}") String directory,
+                            @Value("${grade.objection.journal.fsync:true}") boolean fsync,
+                            @Value("${grade.objection.journal.segment-entries:1000}") int segmentEntries) {
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(directory);
+        this.fsync = fsync;
+        this.segmentEntries = Math.max(1, segmentEntries);
+    }
+
+    /**
+     * 저널을 열고 이전 실행에서 저장하지 못한 항목을 반환한다. 접수를 시작하기 전에 한 번 호출한다.
+     */
+    public List<ObjectionSubmission> open() {
+        lock.lock();
+        try {
+            Files.createDirectories(directory);
+            List<Path> files = new ArrayList<>();
+            Path legacy = directory.resolve(LEGACY_FILE_NAME);
+            if (Files.exists(legacy)) {
+                files.add(legacy);
+            }
+            files.addAll(listSegments());
+
+            Map<String, ObjectionSubmission> recovered = new LinkedHashMap<>();
+            for (Path file : files) {
+                for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        ObjectionSubmission submission = objectMapper.readValue(line, ObjectionSubmission.class).asReplayed();
+                        recovered.putIfAbsent(submission.ticketId(), submission);
+                    } catch (IOException e) {
+                        // 기록 도중 종료되어 잘린 마지막 줄 등: 응답이 나가지 않은 항목이므로 건너뛴다
+                        log.warn("Skipping unreadable objection journal entry in {}: {}", file.getFileName(), e.getMessage());
+                    }
+                }
+            }
+
+            // 잘린 줄 뒤에 새 항목이 이어 붙지 않도록 읽을 수 있는 항목만 새 세그먼트에 다시 쓰고 이전 파일은 지운다
+            activeSegment = files.stream().mapToLong(ObjectionJournal::segmentNumber).max().orElse(0) + 1;
+            Path active = segmentPath(activeSegment);
+            if (!recovered.isEmpty()) {
+                rewrite(active, recovered.values());
+            }
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+            channel = FileChannel.open(active, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            activeEntries = recovered.size();
+            for (ObjectionSubmission submission : recovered.values()) {
+                track(submission, activeSegment);
+            }
+            if (!recovered.isEmpty()) {
+                log.info("Recovered {} unsaved objections from {}", recovered.size(), directory);
+            }
+            return new ArrayList<>(recovered.values());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open objection journal in " + directory, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> stream = Files.list(directory)) {
+            return stream.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    private static long segmentNumber(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(SEGMENT_PREFIX)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private void rewrite(Path file, Collection<ObjectionSubmission> entries) throws IOException {
+        Path temp = directory.resolve(file.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (ObjectionSubmission entry : entries) {
+                write(out, entry);
+            }
+            out.force(false);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void write(FileChannel target, ObjectionSubmission submission) throws IOException {
+        byte[] line = (objectMapper.writeValueAsString(submission) + "\n").getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(line);
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+    }
+
+    private void track(ObjectionSubmission submission, long segment) {
+        pendingTickets.put(submission.ticketId(), segment);
+        outstanding.merge(segment, 1, Integer::sum);
+        pending = pendingTickets.size();
+    }
+
+    public void append(ObjectionSubmission submission) {
+        lock.lock();
+        try {
+            if (activeEntries >= segmentEntries) {
+                rotate();
+            }
+            write(channel, submission);
+            if (fsync) {
+                channel.force(false);
+            }
+            activeEntries++;
+            track(submission, activeSegment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write objection journal", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void rotate() throws IOException {
+        long next = activeSegment + 1;
+        FileChannel nextChannel = FileChannel.open(segmentPath(next), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        channel.close();
+        channel = nextChannel;
+        long previous = activeSegment;
+        activeSegment = next;
+        activeEntries = 0;
+        // 넘기기 전에 이미 모두 처리된 세그먼트
+        if (!outstanding.containsKey(previous)) {
+            Files.deleteIfExists(segmentPath(previous));
+        }
+    }
+
+    /**
+     * 저장(또는 영구 실패)으로 처리가 끝난 항목을 반영한다. 항목이 모두 처리된 세그먼트는 삭제하고,
+     * 기록 중인 세그먼트는 비운다.
+     */
+    public void resolved(List<ObjectionSubmission> submissions) {
+        lock.lock();
+        try {
+            for (ObjectionSubmission submission : submissions) {
+                Long segment = pendingTickets.remove(submission.ticketId());
+                if (segment == null || outstanding.merge(segment, -1, Integer::sum) > 0) {
+                    continue;
+                }
+                outstanding.remove(segment);
+                compact(segment);
+            }
+            pending = pendingTickets.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void compact(long segment) {
+        try {
+            if (segment != activeSegment) {
+                Files.deleteIfExists(segmentPath(segment));
+            } else if (channel != null) {
+                channel.truncate(0);
+                if (fsync) {
+                    channel.force(false);
+                }
+                activeEntries = 0;
+            }
+        } catch (IOException e) {
+            // 지우지 못해도 재기동 시 ticketId로 중복을 걸러내므로 저장이 두 번 되지는 않는다
+            log.warn("Failed to compact objection journal segment {}: {}", segment, e.getMessage());
+        }
+    }
+
+    public long getPending() {
+        return pending;
+    }
+
+    @PreDestroy
+    public void close() {
+        lock.lock();
+        try {
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+        } catch (IOException e) {
+            log.warn("Failed to close objection journal: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -6,7 +6,6 @@ import com.university.grade.entity.*;
 import com.university.grade.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,10 +15,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class ObjectionService {
     private final EnrollmentRepository enrollmentRepository;
     private final GradeObjectionRepository objectionRepository;
-    private final SystemEventRepository eventRepository;
+    private final CacheInvalidationService cacheInvalidationService;
 
     @Transactional
-    @CacheEvict(value = {"gradeList", "gradeSummary"}, allEntries = true)
     public ObjectionResponse createObjection(Long studentId, ObjectionRequest request) {
         // 수강 신청 정보 조회 및 검증
         Enrollment enrollment = enrollmentRepository.findByEnrollmentId(request.getEnrollmentId())
@@ -40,13 +38,9 @@ public class ObjectionService {
 
         GradeObjection saved = objectionRepository.save(objection);
 
-        // 시스템 이벤트 발행 (캐시 무효화용)
-        SystemEvent event = SystemEvent.builder()
-                .eventType("CACHE_INVALIDATION")
-                .description("Grade objection created: " + saved.getObjectionId())
-                .processingStatus(SystemEvent.ProcessingStatus.PENDING)
-                .build();
-        eventRepository.save(event);
+        // 시스템 이벤트 발행 (해당 학생/학기 캐시만 전체 Pod에서 무효화)
+        cacheInvalidationService.publish(studentId, enrollment.getSemester(),
+                "Grade objection created: " + saved.getObjectionId());
 
         return ObjectionResponse.builder()
                 .objectionId(saved.getObjectionId())
@@ -0,0 +1,21 @@
+package com.university.grade.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검증을 마치고 접수 번호를 받은 이의신청. 저널에 한 줄(JSON)로 기록되고 배치 저장을 기다린다.
+ * replayed는 재기동 시 저널에서 복구됐거나 저장 실패 후 다시 시도하는 항목으로, 이미 저장됐을 수 있어 ticketId로 중복을 확인한다.
+ */
+public record ObjectionSubmission(String ticketId,
+                                  Long studentId,
+                                  Long enrollmentId,
+                                  String semester,
+                                  String title,
+                                  String reason,
+                                  LocalDateTime acceptedAt,
+                                  boolean replayed) {
+
+    public ObjectionSubmission asReplayed() {
+        return new ObjectionSubmission(ticketId, studentId, enrollmentId, semester, title, reason, acceptedAt, true);
+    }
+}
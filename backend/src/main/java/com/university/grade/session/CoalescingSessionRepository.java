@@ -0,0 +1,279 @@
+package com.university.grade.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Spring Session JDBC 앞단에서 세션을 Pod 메모리에 보관하고 쓰기를 모아서 처리한다.
+ * <ul>
+ *     <li>조회: staleness 구간 안에서는 SPRING_SESSION을 다시 읽지 않는다.</li>
+ *     <li>저장: 속성 값이 실제로 바뀌었거나 LAST_ACCESS_TIME이 write-interval 이상 밀렸을 때만 UPDATE 한다.</li>
+ * </ul>
+ * 삭제(로그아웃)는 SessionDeletionService로 다른 Pod에 전파하며, 전파된 세션은 메모리 사본 대신 DB를 다시 읽는다
+ * (다른 Pod에서 로그아웃한 세션은 삭제 이벤트 폴링 주기 동안만 유효하게 보일 수 있다).
+ * staleness는 마지막 저장이 아니라 마지막으로 DB에서 읽은 시점부터 잰다.
+ */
+public class CoalescingSessionRepository<S extends Session>
+        implements FindByIndexNameSessionRepository<CoalescingSessionRepository.CoalescingSession<S>>, DisposableBean {
+
+    private final FindByIndexNameSessionRepository<S> delegate;
+    private final SessionDeletionService deletions;
+    private final Duration writeInterval;
+    private final long stalenessNanos;
+    private final Cache<String, CoalescingSession<S>> sessions;
+
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final Counter flushedSaves;
+    private final Counter skippedSaves;
+
+    public CoalescingSessionRepository(FindByIndexNameSessionRepository<S> delegate,
+                                       Duration staleness,
+                                       Duration writeInterval,
+                                       long maximumSize,
+                                       MeterRegistry meterRegistry,
+                                       SessionDeletionService deletions) {
+        this.delegate = delegate;
+        this.deletions = deletions;
+        this.writeInterval = writeInterval;
+        this.stalenessNanos = staleness.toNanos();
+        this.sessions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(staleness)
+                .build();
+
+        this.cacheHits = meterRegistry.counter("session.repository.lookups", "result", "hit");
+        this.cacheMisses = meterRegistry.counter("session.repository.lookups", "result", "miss");
+        this.flushedSaves = meterRegistry.counter("session.repository.saves", "result", "flushed");
+        this.skippedSaves = meterRegistry.counter("session.repository.saves", "result", "skipped");
+    }
+
+    @Override
+    public CoalescingSession<S> createSession() {
+        CoalescingSession<S> session = new CoalescingSession<>(delegate.createSession());
+        session.dirty = true;
+        return session;
+    }
+
+    @Override
+    public void save(CoalescingSession<S> session) {
+        session.lock.lock();
+        try {
+            boolean accessStale = Duration.between(session.flushedAccessTime, session.lastAccessedTime)
+                    .compareTo(writeInterval) >= 0;
+            if (session.dirty || accessStale) {
+                session.delegate.setLastAccessedTime(session.lastAccessedTime);
+                delegate.save(session.delegate);
+                session.flushedAccessTime = session.lastAccessedTime;
+                session.dirty = false;
+                flushedSaves.increment();
+            } else {
+                skippedSaves.increment();
+            }
+
+            if (!session.getId().equals(session.cachedId)) {
+                sessions.invalidate(session.cachedId);
+                session.cachedId = session.getId();
+            }
+        } finally {
+            session.lock.unlock();
+        }
+        sessions.put(session.getId(), session);
+    }
+
+    @Override
+    public CoalescingSession<S> findById(String id) {
+        CoalescingSession<S> cached = sessions.getIfPresent(id);
+        // 저장(put)은 캐시 만료 시각을 늘리므로, 계속 사용 중인 세션도 DB에서 읽은 지 staleness가 지나면 다시 읽는다
+        // 다른 Pod에서 삭제된 세션은 메모리 사본을 쓰지 않고 DB에서 다시 확인한다
+        if (cached != null && !cached.isExpired() && System.nanoTime() - cached.loadedAt < stalenessNanos
+                && !deletions.isDeleted(id)) {
+            cacheHits.increment();
+            return cached;
+        }
+
+        cacheMisses.increment();
+        S loaded = delegate.findById(id);
+        if (loaded == null) {
+            sessions.invalidate(id);
+            return null;
+        }
+        CoalescingSession<S> session = new CoalescingSession<>(loaded);
+        if (cached != null && cached.lastAccessedTime.isAfter(session.lastAccessedTime)) {
+            // 아직 쓰지 않은 접근 시각은 유지 (flushedAccessTime은 DB 값이므로 다음 저장 여부는 그대로 판단)
+            session.lastAccessedTime = cached.lastAccessedTime;
+        }
+        sessions.put(id, session);
+        return session;
+    }
+
+    @Override
+    public void deleteById(String id) {
+        sessions.invalidate(id);
+        delegate.deleteById(id);
+        deletions.publish(id);
+    }
+
+    @Override
+    public Map<String, CoalescingSession<S>> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+        Map<String, CoalescingSession<S>> result = new LinkedHashMap<>();
+        delegate.findByIndexNameAndIndexValue(indexName, indexValue)
+                .forEach((id, session) -> result.put(id, new CoalescingSession<>(session)));
+        return result;
+    }
+
+    /**
+     * 감싼 리포지토리의 종료 처리(만료 세션 정리 스케줄러 중지)를 대신 호출한다.
+     */
+    @Override
+    public void destroy() throws Exception {
+        if (delegate instanceof DisposableBean disposable) {
+            disposable.destroy();
+        }
+    }
+
+    /**
+     * JDBC 세션을 감싸 마지막 접근 시각을 메모리에서만 갱신하고, 실제 속성 변경 여부를 추적한다.
+     */
+    public static final class CoalescingSession<S extends Session> implements Session {
+        private final S delegate;
+        private Instant lastAccessedTime;
+        private Instant flushedAccessTime;
+        private String cachedId;
+        private boolean dirty;
+        // 이 세션을 DB에서 읽은(또는 만든) 시각 (System.nanoTime)
+        private final long loadedAt = System.nanoTime();
+        // synchronized 대신 사용: JDBC 저장 중에 가상 스레드가 캐리어 스레드를 붙잡지 않도록 함
+        private final ReentrantLock lock = new ReentrantLock();
+
+        CoalescingSession(S delegate) {
+            this.delegate = delegate;
+            this.lastAccessedTime = delegate.getLastAccessedTime();
+            this.flushedAccessTime = delegate.getLastAccessedTime();
+            this.cachedId = delegate.getId();
+        }
+
+        @Override
+        public String getId() {
+            return delegate.getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            lock.lock();
+            try {
+                dirty = true;
+                return delegate.changeSessionId();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return delegate.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return delegate.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            lock.lock();
+            try {
+                // 같은 값을 다시 저장하는 경우에는 UPDATE를 만들지 않는다
+                if (Objects.equals(delegate.getAttribute(attributeName), attributeValue)) {
+                    return;
+                }
+                delegate.setAttribute(attributeName, attributeValue);
+                dirty = true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            lock.lock();
+            try {
+                if (delegate.getAttribute(attributeName) == null) {
+                    return;
+                }
+                delegate.removeAttribute(attributeName);
+                dirty = true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return delegate.getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            lock.lock();
+            try {
+                this.lastAccessedTime = lastAccessedTime;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            lock.lock();
+            try {
+                return lastAccessedTime;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            lock.lock();
+            try {
+                if (!interval.equals(delegate.getMaxInactiveInterval())) {
+                    delegate.setMaxInactiveInterval(interval);
+                    dirty = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return delegate.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            lock.lock();
+            try {
+                Duration maxInactive = delegate.getMaxInactiveInterval();
+                return !maxInactive.isNegative()
+                        && Instant.now().minus(maxInactive).compareTo(lastAccessedTime) >= 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.university.grade.session;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 로그인 시 세션에 저장하는 사용자 정보 (userId, studentId, role).
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class SessionClaims {
+    private final Long userId;
+    private final Long studentId;
+    private final String role;
+}
@@ -0,0 +1,108 @@
+package com.university.grade.session;
+
+import com.university.grade.entity.SystemEvent;
+import com.university.grade.repository.SystemEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JDBC 세션 모드에서 삭제(로그아웃)된 세션 ID를 SYSTEM_EVENTS(SESSION_DELETED)로 모든 Pod에 전파한다.
+ * CoalescingSessionRepository는 여기에 기록된 세션을 Pod 메모리에서 꺼내지 않고 SPRING_SESSION을 다시 읽으므로,
+ * 다른 Pod에서 로그아웃한 세션이 staleness 구간 동안 유효하게 보이지 않는다 (폴링 주기만큼만 지연).
+ */
+@Service
+@ConditionalOnExpression("'${grade.session.mode:jdbc}' == 'jdbc' and ${grade.session.jdbc.write-coalescing.enabled:true}")
+@Slf4j
+public class SessionDeletionService {
+    public static final String DELETION_EVENT_TYPE = "SESSION_DELETED";
+    private static final int POLL_PAGE_SIZE = 1000;
+
+    private final SystemEventRepository eventRepository;
+    private final String instanceId;
+    private final long lookbackSeconds;
+    private final long retainMillis;
+
+    // 삭제된 sessionId -> 목록에서 제거해도 되는 시각 (epoch millis)
+    private final Map<String, Long> deletedSessions = new ConcurrentHashMap<>();
+    private final AtomicLong lastSeenEventId = new AtomicLong(-1);
+
+    public SessionDeletionService(SystemEventRepository eventRepository,
+                                  @Value("${grade.instance-id:${HOSTNAME:local}}") String instanceId,
+                                  @Value("${grade.cache.invalidation.lookback-seconds:10}") long lookbackSeconds,
+                                  @Value("${grade.session.jdbc.staleness:30s}") Duration staleness) {
+        this.eventRepository = eventRepository;
+        this.instanceId = instanceId;
+        this.lookbackSeconds = lookbackSeconds;
+        // staleness가 지나면 캐시된 세션도 SPRING_SESSION을 다시 읽으므로 그때까지만 보관한다
+        this.retainMillis = staleness.toMillis() + lookbackSeconds * 1000;
+    }
+
+    /**
+     * 세션 삭제를 다른 Pod에 전파한다. 세션 ID는 이미 SPRING_SESSION에서 지워졌으므로 다시 쓸 수 없다.
+     */
+    public void publish(String sessionId) {
+        markDeleted(sessionId);
+        eventRepository.save(SystemEvent.builder()
+                .instanceId(instanceId)
+                .eventType(DELETION_EVENT_TYPE)
+                .description(sessionId)
+                .retryCount(0)
+                .processingStatus(SystemEvent.ProcessingStatus.COMPLETED)
+                .processedAt(LocalDateTime.now())
+                .build());
+    }
+
+    public boolean isDeleted(String sessionId) {
+        return deletedSessions.containsKey(sessionId);
+    }
+
+    @Scheduled(fixedDelayString = "${grade.session.jdbc.deletion-poll-interval-ms:1000}")
+    public void pollDeletions() {
+        try {
+            if (lastSeenEventId.get() < 0) {
+                // 기동 직후에는 캐시된 세션이 없으므로 이전 삭제 이력은 읽지 않는다
+                lastSeenEventId.set(eventRepository.findMaxEventId().orElse(0L));
+            }
+            // 커밋이 늦게 끝나 마지막으로 본 ID보다 작은 번호로 보이는 이벤트는 lookback 구간으로 다시 확인한다
+            LocalDateTime since = LocalDateTime.now().minusSeconds(lookbackSeconds);
+            long afterEventId = lastSeenEventId.get();
+
+            List<SystemEvent> events;
+            int page = 0;
+            do {
+                events = eventRepository.findRecentEvents(List.of(DELETION_EVENT_TYPE),
+                        afterEventId, since, PageRequest.of(page++, POLL_PAGE_SIZE));
+                for (SystemEvent event : events) {
+                    if (event.getDescription() != null && !instanceId.equals(event.getInstanceId())) {
+                        markDeleted(event.getDescription());
+                    }
+                    lastSeenEventId.accumulateAndGet(event.getEventId(), Math::max);
+                }
+            } while (events.size() == POLL_PAGE_SIZE);
+
+            long now = System.currentTimeMillis();
+            deletedSessions.values().removeIf(forgetAt -> forgetAt <= now);
+        } catch (Exception e) {
+            log.warn("Failed to poll session deletions: {}", e.getMessage());
+        }
+    }
+
+    public int getDeletedSessionCount() {
+        return deletedSessions.size();
+    }
+
+    private void markDeleted(String sessionId) {
+        deletedSessions.put(sessionId, System.currentTimeMillis() + retainMillis);
+    }
+}
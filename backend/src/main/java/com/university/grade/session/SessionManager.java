@@ -0,0 +1,130 @@
+package com.university.grade.session;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 컨트롤러가 사용하는 세션 접근 지점. 세션 모드(jdbc/token)에 따라 HttpSession 또는 서명된 쿠키를 사용한다.
+ */
+@Component
+@Slf4j
+public class SessionManager {
+    private final SessionMode sessionMode;
+    private final SessionTokenService tokenService;
+    private final String cookieName;
+    private final boolean cookieSecure;
+    private final Duration idleTimeout;
+
+    public SessionManager(SessionMode sessionMode,
+                          SessionTokenService tokenService,
+                          @Value("${grade.session.token.cookie-name:GRADE_SESSION}") String cookieName,
+                          @Value("${server.servlet.session.cookie.secure:false}") boolean cookieSecure,
+                          @Value("${spring.session.timeout:30m}") Duration idleTimeout) {
+        this.sessionMode = sessionMode;
+        this.tokenService = tokenService;
+        this.cookieName = cookieName;
+        this.cookieSecure = cookieSecure;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * 세션의 studentId를 우선 사용하고, 없으면 X-Student-Id 헤더를 사용한다. 확인할 수 없으면 null.
+     */
+    public Long resolveStudentId(HttpServletRequest request, HttpServletResponse response, String studentIdHeader) {
+        SessionClaims claims = currentClaims(request, response);
+        if (claims != null && claims.getStudentId() != null) {
+            return claims.getStudentId();
+        }
+        if (studentIdHeader != null) {
+            try {
+                return Long.parseLong(studentIdHeader);
+            } catch (NumberFormatException e) {
+                log.warn("Invalid studentId header format: {}", studentIdHeader);
+            }
+        }
+        return null;
+    }
+
+    public SessionClaims currentClaims(HttpServletRequest request, HttpServletResponse response) {
+        if (!sessionMode.isToken()) {
+            HttpSession session = request.getSession(false);
+            if (session == null) {
+                return null;
+            }
+            return SessionClaims.builder()
+                    .userId((Long) session.getAttribute("userId"))
+                    .studentId((Long) session.getAttribute("studentId"))
+                    .role((String) session.getAttribute("role"))
+                    .build();
+        }
+
+        SessionTokenService.TokenPayload payload = tokenService.verify(readTokenCookie(request));
+        if (payload == null) {
+            return null;
+        }
+        // 유휴 만료의 절반이 지나면 만료 시각을 연장한 토큰으로 교체 (sliding expiration)
+        if (payload.isPastHalfLife(idleTimeout.toSeconds())) {
+            writeTokenCookie(response, tokenService.renew(payload), idleTimeout);
+        }
+        return payload.getClaims();
+    }
+
+    public void establish(HttpServletRequest request, HttpServletResponse response, SessionClaims claims) {
+        if (sessionMode.isToken()) {
+            writeTokenCookie(response, tokenService.issue(claims), idleTimeout);
+            return;
+        }
+        HttpSession session = request.getSession();
+        session.setAttribute("userId", claims.getUserId());
+        session.setAttribute("studentId", claims.getStudentId());
+        session.setAttribute("role", claims.getRole());
+    }
+
+    public void invalidate(HttpServletRequest request, HttpServletResponse response) {
+        if (sessionMode.isToken()) {
+            SessionTokenService.TokenPayload payload = tokenService.verify(readTokenCookie(request));
+            if (payload != null) {
+                tokenService.revoke(payload);
+            }
+            writeTokenCookie(response, "", Duration.ZERO);
+            return;
+        }
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
+    }
+
+    private String readTokenCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (cookieName.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void writeTokenCookie(HttpServletResponse response, String value, Duration maxAge) {
+        ResponseCookie cookie = ResponseCookie.from(cookieName, value)
+                .httpOnly(true)
+                .secure(cookieSecure)
+                .path("/")
+                .sameSite("Lax")
+                .maxAge(maxAge)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+}
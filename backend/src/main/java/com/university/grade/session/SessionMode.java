@@ -0,0 +1,25 @@
+package com.university.grade.session;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션 저장 방식.
+ * jdbc: Spring Session JDBC (SPRING_SESSION 테이블)
+ * token: 서명된 쿠키 토큰 (DB 조회 없음, stateless 프로필에서 사용)
+ */
+@Component
+public class SessionMode {
+    private final boolean token;
+
+    public SessionMode(@Value("${grade.session.mode:jdbc}") String mode) {
+        if (!"jdbc".equalsIgnoreCase(mode) && !"token".equalsIgnoreCase(mode)) {
+            throw new IllegalStateException("Unsupported grade.session.mode: " + mode);
+        }
+        this.token = "token".equalsIgnoreCase(mode);
+    }
+
+    public boolean isToken() {
+        return token;
+    }
+}
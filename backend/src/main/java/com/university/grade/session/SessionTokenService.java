@@ -0,0 +1,236 @@
+package com.university.grade.session;
+
+import com.university.grade.entity.SystemEvent;
+import com.university.grade.repository.SystemEventRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서명된 세션 토큰을 발급/검증한다 (stateless 세션 모드).
+ * 토큰은 base64url(payload) + "." + base64url(HMAC-SHA256(payload)) 형식이며 DB 조회 없이 메모리에서 검증한다.
+ * 로그아웃한 토큰은 SYSTEM_EVENTS(SESSION_REVOKED)로 모든 Pod에 전파되어 폐기 목록에 보관된다.
+ */
+@Service
+@Slf4j
+public class SessionTokenService {
+    public static final String REVOCATION_EVENT_TYPE = "SESSION_REVOKED";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int POLL_PAGE_SIZE = 1000;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SystemEventRepository eventRepository;
+    private final SessionMode sessionMode;
+    private final Duration idleTimeout;
+    private final Duration maxLifetime;
+    private final String instanceId;
+    private final long lookbackSeconds;
+    private final ThreadLocal<Mac> macs;
+
+    // 폐기된 tokenId -> 폐기 목록에서 제거해도 되는 시각 (epoch seconds)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final AtomicLong lastSeenEventId = new AtomicLong(-1);
+
+    public SessionTokenService(SystemEventRepository eventRepository,
+                               SessionMode sessionMode,
+                               @Value("${grade.session.token.secret:}") String secret,
+                               @Value("${spring.session.timeout:30m}") Duration idleTimeout,
+                               @Value("${grade.session.token.max-lifetime:12h}") Duration maxLifetime,
+                               @Value("${grade.instance-id:${HOSTNAME:local}}") String instanceId,
+                               @Value("${grade.cache.invalidation.lookback-seconds:10}") long lookbackSeconds) {
+        this.eventRepository = eventRepository;
+        this.sessionMode = sessionMode;
+        this.idleTimeout = idleTimeout;
+        this.maxLifetime = maxLifetime;
+        this.instanceId = instanceId;
+        this.lookbackSeconds = lookbackSeconds;
+
+        if (sessionMode.isToken() && (secret == null || secret.length() < 32)) {
+            throw new IllegalStateException(
+                    "grade.session.token.secret must be set (at least 32 characters) when grade.session.mode=token");
+        }
+        byte[] key = (secret == null ? "" : secret).getBytes(StandardCharsets.UTF_8);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(new SecretKeySpec(key.length == 0 ? new byte[32] : key, HMAC_ALGORITHM));
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HMAC-SHA256 is not available", e);
+            }
+        });
+    }
+
+    public String issue(SessionClaims claims) {
+        long now = Instant.now().getEpochSecond();
+        return sign(new TokenPayload(UUID.randomUUID().toString(), claims, now, now + idleTimeout.toSeconds()));
+    }
+
+    /**
+     * 유휴 만료 시각을 연장한 토큰을 다시 발급한다. tokenId와 최초 발급 시각은 유지된다.
+     */
+    public String renew(TokenPayload payload) {
+        long now = Instant.now().getEpochSecond();
+        return sign(new TokenPayload(payload.getTokenId(), payload.getClaims(),
+                payload.getIssuedAt(), now + idleTimeout.toSeconds()));
+    }
+
+    /**
+     * 서명, 만료, 폐기 여부를 확인한다. 유효하지 않으면 null을 반환한다.
+     */
+    public TokenPayload verify(String token) {
+        if (token == null) {
+            return null;
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) {
+            return null;
+        }
+        try {
+            byte[] payloadBytes = DECODER.decode(token.substring(0, dot));
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(hmac(payloadBytes), signature)) {
+                return null;
+            }
+
+            TokenPayload payload = TokenPayload.parse(new String(payloadBytes, StandardCharsets.UTF_8));
+            long now = Instant.now().getEpochSecond();
+            if (payload.getExpiresAt() <= now
+                    || payload.getIssuedAt() + maxLifetime.toSeconds() <= now
+                    || revokedTokens.containsKey(payload.getTokenId())) {
+                return null;
+            }
+            return payload;
+        } catch (IllegalArgumentException e) {
+            log.debug("Malformed session token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 로그아웃한 토큰을 폐기하고 다른 Pod에도 전파한다.
+     */
+    public void revoke(TokenPayload payload) {
+        revokeLocally(payload.getTokenId(), payload.getIssuedAt());
+        eventRepository.save(SystemEvent.builder()
+                .instanceId(instanceId)
+                .eventType(REVOCATION_EVENT_TYPE)
+                .description(payload.getTokenId() + ":" + payload.getIssuedAt())
+                .retryCount(0)
+                .processingStatus(SystemEvent.ProcessingStatus.COMPLETED)
+                .processedAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Scheduled(fixedDelayString = "${grade.session.token.revocation-poll-interval-ms:1000}")
+    public void pollRevocations() {
+        if (!sessionMode.isToken()) {
+            return;
+        }
+        try {
+            boolean initial = lastSeenEventId.get() < 0;
+            if (initial) {
+                lastSeenEventId.set(eventRepository.findMaxEventId().orElse(0L));
+            }
+            // 기동 시에는 최대 토큰 수명 구간의 폐기 이력을 모두 읽고, 이후에는 새 이벤트만 확인한다
+            LocalDateTime since = initial
+                    ? LocalDateTime.now().minus(maxLifetime)
+                    : LocalDateTime.now().minusSeconds(lookbackSeconds);
+            long afterEventId = lastSeenEventId.get();
+
+            List<SystemEvent> events;
+            int page = 0;
+            do {
+                events = eventRepository.findRecentEvents(List.of(REVOCATION_EVENT_TYPE),
+                        afterEventId, since, PageRequest.of(page++, POLL_PAGE_SIZE));
+                for (SystemEvent event : events) {
+                    String[] parts = event.getDescription() == null
+                            ? new String[0] : event.getDescription().split(":");
+                    if (parts.length == 2) {
+                        revokeLocally(parts[0], Long.parseLong(parts[1]));
+                    }
+                    lastSeenEventId.accumulateAndGet(event.getEventId(), Math::max);
+                }
+            } while (events.size() == POLL_PAGE_SIZE);
+
+            long now = Instant.now().getEpochSecond();
+            revokedTokens.values().removeIf(forgetAt -> forgetAt <= now);
+        } catch (Exception e) {
+            log.warn("Failed to poll session revocations: {}", e.getMessage());
+        }
+    }
+
+    public int getRevokedTokenCount() {
+        return revokedTokens.size();
+    }
+
+    private void revokeLocally(String tokenId, long issuedAt) {
+        revokedTokens.put(tokenId, issuedAt + maxLifetime.toSeconds());
+    }
+
+    private String sign(TokenPayload payload) {
+        byte[] payloadBytes = payload.serialize().getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(hmac(payloadBytes));
+    }
+
+    private byte[] hmac(byte[] data) {
+        Mac mac = macs.get();
+        mac.reset();
+        return mac.doFinal(data);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class TokenPayload {
+        private final String tokenId;
+        private final SessionClaims claims;
+        private final long issuedAt;
+        private final long expiresAt;
+
+        String serialize() {
+            return String.join("|", tokenId,
+                    String.valueOf(claims.getUserId()),
+                    claims.getStudentId() == null ? "" : String.valueOf(claims.getStudentId()),
+                    claims.getRole() == null ? "" : claims.getRole(),
+                    String.valueOf(issuedAt),
+                    String.valueOf(expiresAt));
+        }
+
+        static TokenPayload parse(String value) {
+            String[] parts = value.split("\\|", -1);
+            if (parts.length != 6) {
+                throw new IllegalArgumentException("unexpected token payload");
+            }
+            SessionClaims claims = SessionClaims.builder()
+                    .userId(Long.parseLong(parts[1]))
+                    .studentId(parts[2].isEmpty() ? null : Long.parseLong(parts[2]))
+                    .role(parts[3].isEmpty() ? null : parts[3])
+                    .build();
+            return new TokenPayload(parts[0], claims, Long.parseLong(parts[4]), Long.parseLong(parts[5]));
+        }
+
+        public boolean isPastHalfLife(long idleSeconds) {
+            return expiresAt - Instant.now().getEpochSecond() < idleSeconds / 2;
+        }
+    }
+}
@@ -24,22 +24,21 @@ async function doLogout() {
 }
 
 // ===== API 호출 함수들 =====
-async function fetchAvailableSemesters(studentId) {
-  console.log("fetchAvailableSemesters called with studentId:", studentId, "type:", typeof studentId);
-  
+// 학기 목록 + 요약 + 성적 목록을 한 번에 가져온다 (semester가 없으면 최근 공개 학기)
+async function fetchDashboard(studentId, semester) {
+  const query = semester ? `?semester=${encodeURIComponent(semester)}` : "";
+
   try {
-    const response = await fetch(`/api/v1/grades/semesters`, {
+    const response = await fetch(`/api/v1/grades/dashboard${query}`, {
       method: 'GET',
       headers: {
         'Content-Type': 'application/json',
-        'X-Student-Id': String(studentId), // 명시적으로 문자열로 변환
+        'X-Student-Id': String(studentId),
         'X-User-Role': localStorage.getItem('userRole') || 'ROLE_STUDENT'
       },
       credentials: 'include' // 쿠키 포함 (세션 유지)
     });
 
-    console.log("Response status:", response.status, "ok:", response.ok);
-
     if (!response.ok) {
       if (response.status === 401) {
         console.error("401 Unauthorized - 세션이 만료되었거나 인증이 필요합니다.");
@@ -47,61 +46,7 @@ async function fetchAvailableSemesters(studentId) {
         localStorage.removeItem("userId");
         localStorage.removeItem("userRole");
         window.location.href = "../login/index.html";
-        return [];
-      }
-      if (response.status === 500) {
-        const errorText = await response.text();
-        console.error("서버 오류 (500):", errorText);
-        throw new Error("서버 오류: 학기 목록을 가져올 수 없습니다.");
-      }
-      const errorText = await response.text();
-      console.error(`HTTP error! status: ${response.status}, body: ${errorText}`);
-      throw new Error(`HTTP error! status: ${response.status}, message: ${errorText}`);
-    }
-
-    const data = await response.json();
-    console.log("학기 목록 응답 데이터:", data, "type:", typeof data, "isArray:", Array.isArray(data));
-    
-    if (!Array.isArray(data)) {
-      console.error("응답이 배열이 아닙니다:", data);
-      return [];
-    }
-    
-    return data;
-  } catch (error) {
-    console.error('Available semesters fetch failed:', error);
-    console.error('Error details:', {
-      message: error.message,
-      stack: error.stack,
-      studentId: studentId
-    });
-    throw error; // 에러를 다시 throw하여 상위에서 처리할 수 있도록
-  }
-}
-
-async function fetchGradeSummary(studentId, semester) {
-  try {
-    const response = await fetch(`/api/v1/grades/summary?semester=${semester}`, {
-      method: 'GET',
-      headers: {
-        'Content-Type': 'application/json',
-        'X-Student-Id': studentId,
-        'X-User-Role': localStorage.getItem('userRole') || 'ROLE_STUDENT'
-      },
-      credentials: 'include' // 쿠키 포함 (JSESSIONID)
-    });
-
-    if (!response.ok) {
-      if (response.status === 401 || response.status === 403) {
-        // 세션 만료 또는 권한 없음
-        if (response.status === 401) {
-          localStorage.removeItem("isLoggedIn");
-          localStorage.removeItem("userId");
-          localStorage.removeItem("userRole");
-          window.location.href = "../login/index.html";
-          return;
-        }
-        throw new Error('성적 공개 기간이 아닙니다.');
+        return null;
       }
       const errorData = await response.json().catch(() => ({ message: `HTTP error! status: ${response.status}` }));
       throw new Error(errorData.message || `HTTP error! status: ${response.status}`);
@@ -109,47 +54,14 @@ async function fetchGradeSummary(studentId, semester) {
 
     return await response.json();
   } catch (error) {
-    console.error('Grade summary fetch failed:', error);
-    throw error;
-  }
-}
-
-async function fetchGradeList(studentId, semester) {
-  try {
-    const response = await fetch(`/api/v1/grades/list?semester=${semester}`, {
-      method: 'GET',
-      headers: {
-        'Content-Type': 'application/json',
-        'X-Student-Id': studentId,
-        'X-User-Role': localStorage.getItem('userRole') || 'ROLE_STUDENT'
-      },
-      credentials: 'include' // 쿠키 포함 (JSESSIONID)
-    });
-
-    if (!response.ok) {
-      if (response.status === 401 || response.status === 403) {
-        // 세션 만료 또는 권한 없음
-        if (response.status === 401) {
-          localStorage.removeItem("isLoggedIn");
-          localStorage.removeItem("userId");
-          localStorage.removeItem("userRole");
-          window.location.href = "../login/index.html";
-          return;
-        }
-        throw new Error('성적 공개 기간이 아닙니다.');
-      }
-      const errorData = await response.json().catch(() => ({ message: `HTTP error! status: ${response.status}` }));
-      throw new Error(errorData.message || `HTTP error! status: ${response.status}`);
-    }
-
-    return await response.json();
-  } catch (error) {
-    console.error('Grade list fetch failed:', error);
+    console.error('Grade dashboard fetch failed:', error);
     throw error;
   }
 }
 
 let rows = [];
+let allRows = []; // 선택 학기의 전체 성적 (검색은 이 목록에서 필터링)
+let currentSummary = null;
 let sortState = { key: null, dir: 1 };
 let currentRow = null;
 
@@ -219,93 +131,58 @@ function renderTable() {
   renderSummary();
 }
 
-async function renderSummary() {
+function renderSummary() {
   const semester = $("semester").value;
-  if (!semester) {
+  if (!semester || !currentSummary) {
     $("sumApplied").textContent = "0";
     $("sumEarned").textContent = "0";
     $("sumGPA").textContent = "0.00";
     $("sumPct").textContent = "0.0";
-    $("termLabel").textContent = "학기를 선택하세요";
+    $("termLabel").textContent = formatSemester(semester);
     return;
   }
-  
-  const studentId = localStorage.getItem("userId") || "12345";
-
-  try {
-    // API에서 요약 정보 가져오기
-    const summaryData = await fetchGradeSummary(studentId, semester);
 
-    $("sumApplied").textContent = String(summaryData.totalCredits);
-    $("sumEarned").textContent = String(summaryData.totalCredits);
-    $("sumGPA").textContent = summaryData.gpa.toFixed(2);
+  $("sumApplied").textContent = String(currentSummary.totalCredits);
+  $("sumEarned").textContent = String(currentSummary.totalCredits);
+  $("sumGPA").textContent = currentSummary.gpa.toFixed(2);
 
-    // 백분율은 GPA에서 계산 (4.5 만점 기준)
-    const pctFromGPA = (summaryData.gpa / 4.5) * 100;
-    $("sumPct").textContent = pctFromGPA.toFixed(1);
+  // 백분율은 GPA에서 계산 (4.5 만점 기준)
+  const pctFromGPA = (currentSummary.gpa / 4.5) * 100;
+  $("sumPct").textContent = pctFromGPA.toFixed(1);
 
-    $("termLabel").textContent = formatSemester(semester);
-  } catch (error) {
-    console.error('Failed to load grade summary:', error);
-    showError(error.message);
-
-    // 에러 시 기본값 표시
-    $("sumApplied").textContent = "0";
-    $("sumEarned").textContent = "0";
-    $("sumGPA").textContent = "0.00";
-    $("sumPct").textContent = "0.0";
-    $("termLabel").textContent = formatSemester(semester);
-  }
+  $("termLabel").textContent = formatSemester(semester);
 }
 
-async function applyFilters() {
+function applyFilters() {
   const semester = $("semester").value;
   if (!semester) {
     alert("학기를 선택해주세요.");
     return;
   }
-  
-  const q = $("q").value.trim().toLowerCase();
-  const studentId = localStorage.getItem("userId") || "12345";
-
-  try {
-    showLoading(true);
 
-    // API에서 성적 목록 가져오기
-    const apiData = await fetchGradeList(studentId, semester);
-
-    // API 데이터를 클라이언트 형식으로 변환
-    rows = apiData.map(item => ({
-      code: item.courseCode,
-      name: item.courseName,
-      type: determineSubjectType(item.courseCode), // 과목코드로 이수구분 판단
-      credit: item.credit,
-      grade: item.gradeLetter,
-      point: calculateGradePoint(item.gradeLetter), // 등급으로 평점 계산
-      pct: item.score,
-      prof: "교수", // API에서 제공되지 않으면 기본값
-      note: item.isFinalized ? "정상" : "미확정",
-      eval: "중간 30% / 기말 40% / 과제 20% / 출석 10%", // 기본값
-      desc: `${item.courseName} 과목`, // 기본값
-      enrollmentId: item.enrollmentId // 이의신청에 필요
-    }));
-
-    // 검색 필터 적용
-    if (q) {
-      rows = rows.filter((r) => r.name.toLowerCase().includes(q));
-    }
+  // 검색 필터 적용 (이미 받아온 목록에서 필터링)
+  const q = $("q").value.trim().toLowerCase();
+  rows = q ? allRows.filter((r) => r.name.toLowerCase().includes(q)) : [...allRows];
 
-    if (sortState.key) sortBy(sortState.key, true);
-    else renderTable();
+  if (sortState.key) sortBy(sortState.key, true);
+  else renderTable();
+}
 
-  } catch (error) {
-    console.error('Failed to load grade list:', error);
-    showError(error.message);
-    rows = [];
-    renderTable();
-  } finally {
-    showLoading(false);
-  }
+function toRow(item) {
+  return {
+    code: item.courseCode,
+    name: item.courseName,
+    type: determineSubjectType(item.courseCode), // 과목코드로 이수구분 판단
+    credit: item.credit,
+    grade: item.gradeLetter,
+    point: calculateGradePoint(item.gradeLetter), // 등급으로 평점 계산
+    pct: item.score,
+    prof: "교수", // API에서 제공되지 않으면 기본값
+    note: item.isFinalized ? "정상" : "미확정",
+    eval: "중간 30% / 기말 40% / 과제 20% / 출석 10%", // 기본값
+    desc: `${item.courseName} 과목`, // 기본값
+    enrollmentId: item.enrollmentId // 이의신청에 필요
+  };
 }
 
 function determineSubjectType(courseCode) {
@@ -341,6 +218,8 @@ function resetFilters() {
   $("semester").value = "";
   $("q").value = "";
   rows = [];
+  allRows = [];
+  currentSummary = null;
   sortState = { key: null, dir: 1 };
   renderTable();
   renderSummary();
@@ -537,11 +416,11 @@ function bindEvents() {
       }
 
       const result = await response.json();
-      alert(`이의신청이 접수되었습니다.\n\n과목: ${currentRow.name} (${currentRow.code})\n접수번호: ${result.objectionId || "처리중"}`);
+      alert(`이의신청이 접수되었습니다.\n\n과목: ${currentRow.name} (${currentRow.code})\n접수번호: ${result.objectionId || result.ticketId || "처리중"}`);
       closeAppealModal();
       
       // 성적 목록 새로고침 (캐시 무효화 반영)
-      applyFilters();
+      loadDashboard(semester);
     } catch (error) {
       console.error("이의신청 제출 실패:", error);
       alert(`이의신청 제출에 실패했습니다.\n\n${error.message}`);
@@ -560,61 +439,74 @@ function bindEvents() {
   });
 
   $("semester").addEventListener("change", () => {
-    renderSummary();
-    applyFilters();
+    const semester = $("semester").value;
+    if (semester) loadDashboard(semester);
   });
 }
 
-async function loadAvailableSemesters() {
+function renderSemesterOptions(semesters, selected) {
+  const select = $("semester");
+  select.innerHTML = '<option value="">학기를 선택하세요...</option>';
+
+  if (!semesters || semesters.length === 0) {
+    const option = document.createElement("option");
+    option.value = "";
+    option.textContent = "사용 가능한 학기가 없습니다";
+    option.disabled = true;
+    select.appendChild(option);
+    return;
+  }
+
+  semesters.forEach(semester => {
+    const option = document.createElement("option");
+    option.value = semester;
+    option.textContent = formatSemester(semester);
+    select.appendChild(option);
+  });
+  select.value = selected || "";
+}
+
+// semester가 없으면 학기 목록과 최근 공개 학기를 서버가 골라서 함께 내려준다
+async function loadDashboard(semester) {
   const studentId = localStorage.getItem("userId");
-  console.log("loadAvailableSemesters - userId from localStorage:", studentId);
-  
   if (!studentId) {
     console.error("userId가 없습니다. 로그인을 다시 해주세요.");
     alert("로그인 정보가 없습니다. 다시 로그인해주세요.");
     window.location.href = "../login/index.html";
     return;
   }
-  
+
   try {
-    console.log("Fetching semesters for studentId:", studentId);
-    const semesters = await fetchAvailableSemesters(studentId);
-    console.log("Received semesters:", semesters);
-    
-    const select = $("semester");
-    select.innerHTML = '<option value="">학기를 선택하세요...</option>';
-    
-    if (!semesters || semesters.length === 0) {
+    showLoading(true);
+    const data = await fetchDashboard(studentId, semester);
+    if (!data) return;
+
+    renderSemesterOptions(data.semesters, data.semester);
+    if (!data.semesters || data.semesters.length === 0) {
       console.warn("사용 가능한 학기가 없습니다. studentId:", studentId);
-      const option = document.createElement("option");
-      option.value = "";
-      option.textContent = "사용 가능한 학기가 없습니다";
-      option.disabled = true;
-      select.appendChild(option);
       alert("사용 가능한 학기가 없습니다. 데이터베이스를 확인해주세요.");
+    }
+
+    currentSummary = data.summary;
+    allRows = (data.grades || []).map(toRow);
+    if (!data.semester) {
+      rows = [];
+      renderTable();
       return;
     }
-    
-    semesters.forEach(semester => {
-      const option = document.createElement("option");
-      option.value = semester;
-      option.textContent = formatSemester(semester);
-      select.appendChild(option);
-    });
-    
-    console.log("Loaded semesters into select:", semesters);
-    
-    // 첫 번째 학기를 기본 선택
-    if (semesters.length > 0) {
-      select.value = semesters[0];
-      renderSummary();
-      applyFilters();
+    if (!data.released) {
+      showError("성적 공개 기간이 아닙니다.");
     }
+    applyFilters();
   } catch (error) {
-    console.error("학기 목록 로드 실패:", error);
-    const select = $("semester");
-    select.innerHTML = '<option value="">학기 목록을 불러올 수 없습니다</option>';
-    alert(`학기 목록을 불러오는데 실패했습니다: ${error.message}`);
+    console.error("성적 대시보드 로드 실패:", error);
+    showError(error.message);
+    currentSummary = null;
+    allRows = [];
+    rows = [];
+    renderTable();
+  } finally {
+    showLoading(false);
   }
 }
 
@@ -622,8 +514,8 @@ async function init() {
   formatToday();
   bindEvents();
 
-  // 학기 목록 로드 후 데이터 로드
-  await loadAvailableSemesters();
+  // 학기 목록, 요약, 성적 목록을 한 번에 로드
+  await loadDashboard();
 
   // 시작 상태 확정
   closeAppealModal();
@@ -0,0 +1,94 @@
+package com.university.grade.repository;
+
+import com.university.grade.dto.GradeDetailResponse;
+import com.university.grade.entity.Course;
+import com.university.grade.entity.Enrollment;
+import com.university.grade.entity.Grade;
+import com.university.grade.entity.Student;
+import com.university.grade.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 성적 목록 조회가 과목 수와 관계없이 SQL 한 문장으로 끝나는지 확인한다 (N+1 회귀 방지).
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+class GradeRepositoryStatementCountTest {
+    private static final String SEMESTER = "2024-2";
+
+    @Autowired
+    private GradeRepository gradeRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long studentId;
+
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.persist(User.builder()
+                .loginId("20240001")
+                .passwordHash("{noop}password")
+                .role("ROLE_STUDENT")
+                .build());
+        Student student = entityManager.persist(Student.builder()
+                .user(user)
+                .studentNumber("20240001")
+                .name("홍길동")
+                .department("컴퓨터공학과")
+                .build());
+        studentId = student.getStudentId();
+
+        String[] letters = {"A+", "B0", "C+", "P"};
+        for (int i = 0; i < letters.length; i++) {
+            Course course = entityManager.persist(Course.builder()
+                    .courseCode("CS10" + i)
+                    .courseName("과목 " + i)
+                    .credit(3)
+                    .semester(SEMESTER)
+                    .build());
+            Enrollment enrollment = entityManager.persist(Enrollment.builder()
+                    .student(student)
+                    .course(course)
+                    .semester(SEMESTER)
+                    .build());
+            entityManager.persist(Grade.builder()
+                    .enrollment(enrollment)
+                    .score(new BigDecimal("90.00"))
+                    .gradeLetter(letters[i])
+                    .isFinalized(true)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findGradeDetailsPreparesSingleStatement() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<GradeDetailResponse> grades = gradeRepository.findGradeDetailsByStudentIdAndSemester(studentId, SEMESTER);
+
+        assertThat(grades).hasSize(4);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,88 @@
+package com.university.grade.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GPA/이수 학점 계산 규칙 (4.5 만점, F 포함, P/NP 제외, 소수 둘째 자리 반올림).
+ */
+class GradeSummaryWriterTest {
+
+    @Test
+    void usesFourPointFiveScale() {
+        Map<Long, GradeSummaryWriter.Summary> summaries = GradeSummaryWriter.summarize(List.of(
+                row(1L, 3, "A+"),
+                row(2L, 3, "A0"),
+                row(3L, 3, "B+")));
+
+        assertThat(summaries.get(1L).gpa()).isEqualByComparingTo("4.50");
+        assertThat(summaries.get(2L).gpa()).isEqualByComparingTo("4.00");
+        assertThat(summaries.get(3L).gpa()).isEqualByComparingTo("3.50");
+    }
+
+    @Test
+    void includesFailedCoursesInGpaAndCredits() {
+        GradeSummaryWriter.Summary summary = GradeSummaryWriter.summarize(List.of(
+                row(1L, 3, "A+"),
+                row(1L, 3, "F"))).get(1L);
+
+        assertThat(summary.gpa()).isEqualByComparingTo("2.25");
+        assertThat(summary.totalCredits()).isEqualTo(6);
+    }
+
+    @Test
+    void excludesPassAndNonPassFromGpa() {
+        GradeSummaryWriter.Summary summary = GradeSummaryWriter.summarize(List.of(
+                row(1L, 3, "A0"),
+                row(1L, 2, "P"),
+                row(1L, 3, "NP"))).get(1L);
+
+        // P는 이수 학점에만, NP는 어디에도 반영하지 않는다
+        assertThat(summary.gpa()).isEqualByComparingTo("4.00");
+        assertThat(summary.totalCredits()).isEqualTo(5);
+    }
+
+    @Test
+    void passOnlySemesterHasZeroGpa() {
+        GradeSummaryWriter.Summary summary = GradeSummaryWriter.summarize(List.<Object[]>of(row(1L, 2, "P"))).get(1L);
+
+        assertThat(summary.gpa()).isEqualTo(new BigDecimal("0.00"));
+        assertThat(summary.totalCredits()).isEqualTo(2);
+    }
+
+    @Test
+    void roundsHalfUpToTwoDecimals() {
+        // (3.7 x 3 + 1.0 x 1) / 4 = 3.025
+        GradeSummaryWriter.Summary summary = GradeSummaryWriter.summarize(List.of(
+                row(1L, 3, "A-"),
+                row(1L, 1, "D0"))).get(1L);
+
+        assertThat(summary.gpa()).isEqualTo(new BigDecimal("3.03"));
+    }
+
+    @Test
+    void skipsStudentsWithoutGradedCourses() {
+        Map<Long, GradeSummaryWriter.Summary> summaries = GradeSummaryWriter.summarize(List.of(
+                row(1L, 3, "NP"),
+                row(2L, 3, null),
+                row(3L, 3, "Z")));
+
+        assertThat(summaries).isEmpty();
+    }
+
+    @Test
+    void normalizesLetterCase() {
+        GradeSummaryWriter.Summary summary = GradeSummaryWriter.summarize(List.<Object[]>of(row(1L, 3, " b0 "))).get(1L);
+
+        assertThat(summary.gpa()).isEqualByComparingTo("3.00");
+    }
+
+    private static Object[] row(Long studentId, Integer credit, String letter) {
+        return new Object[]{studentId, credit, letter};
+    }
+}
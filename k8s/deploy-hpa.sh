@@ -25,6 +25,12 @@ read -r response
 
 if [[ "$response" =~ ^([yY][eE][sS]|[yY])$ ]]; then
     echo ""
+    # 백엔드가 Deployment에서 StatefulSet으로 바뀌었으므로 이전 Deployment는 먼저 정상 종료 (저널 저장 대기)
+    if kubectl get deployment univ-backend >/dev/null 2>&1; then
+        echo "🔁 이전 백엔드 Deployment 삭제 중 (StatefulSet으로 전환)..."
+        kubectl delete deployment univ-backend --wait=true
+    fi
+
     echo "🔄 HPA 지원 배포 파일 적용 중..."
     kubectl apply -f univ-system-with-hpa.yaml
     
@@ -40,7 +46,7 @@ if [[ "$response" =~ ^([yY][eE][sS]|[yY])$ ]]; then
     
     # 백엔드 롤아웃 대기 (타임아웃 단축)
     echo "🖥️ 백엔드 롤아웃 대기 중..."
-    kubectl rollout status deployment/univ-backend --timeout=120s
+    kubectl rollout status statefulset/univ-backend --timeout=120s
     
     if [ $? -ne 0 ]; then
         echo "⚠️ 백엔드 롤아웃이 지연되고 있습니다. 강제로 진행합니다..."
@@ -142,7 +142,7 @@ echo "2. 애플리케이션 로그에서 세션에 저장된 studentId 확인"
 echo "3. 캐시 초기화 필요할 수 있음"
 echo ""
 echo "애플리케이션 로그 확인 명령어:"
-echo "kubectl logs -f deployment/univ-backend | grep -E 'studentId|semester|getAvailableSemesters|Login'"
+echo "kubectl logs -f statefulset/univ-backend | grep -E 'studentId|semester|getAvailableSemesters|Login'"
 
 echo ""
 echo "✅ 진단 완료!"
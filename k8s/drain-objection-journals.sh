@@ -0,0 +1,70 @@
+#!/bin/bash
+
+# 축소로 사라진 백엔드 Pod의 이의신청 저널 복구 스크립트
+# StatefulSet 축소 시 PVC는 남지만(whenScaled: Retain) 해당 번호의 Pod가 다시 뜨기 전까지
+# 그 저널의 저장 전 접수 건은 DB에 들어가지 않는다. 남은 PVC 번호까지 잠시 늘려 저장시킨 뒤 되돌린다.
+# (RWO 볼륨이라 다른 Pod가 대신 붙일 수 없으므로 같은 번호의 Pod를 띄워 기동 시 복구하게 한다)
+
+STATEFULSET=univ-backend
+HPA=univ-backend-hpa
+JOURNAL_DIR=/var/lib/grade/objection-journal
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-600}
+
+echo "🔍 남아 있는 이의신청 저널 PVC 확인..."
+replicas=$(kubectl get statefulset "$STATEFULSET" -o jsonpath='{.spec.replicas}')
+orphans=()
+for pvc in $(kubectl get pvc -o name | sed -n "s#^persistentvolumeclaim/objection-journal-$STATEFULSET-\([0-9]*\)\$#\1#p"); do
+    if [ "$pvc" -ge "$replicas" ]; then
+        orphans+=("$pvc")
+    fi
+done
+
+if [ ${#orphans[@]} -eq 0 ]; then
+    echo "✅ 현재 Pod 수($replicas) 밖에 남은 저널 PVC가 없습니다"
+    exit 0
+fi
+
+max=$(printf '%s\n' "${orphans[@]}" | sort -n | tail -1)
+target=$((max + 1))
+echo "📦 Pod 수 밖의 저널 PVC: ${orphans[*]} (현재 Pod 수 $replicas -> $target 로 잠시 확장)"
+
+# HPA가 바로 다시 줄이지 않도록 minReplicas를 올렸다가 끝나면 되돌린다
+original_min=$(kubectl get hpa "$HPA" -o jsonpath='{.spec.minReplicas}')
+restore() {
+    echo "↩️ HPA minReplicas를 $original_min 로 되돌립니다"
+    kubectl patch hpa "$HPA" -p "{\"spec\":{\"minReplicas\":$original_min}}"
+}
+trap restore EXIT
+kubectl patch hpa "$HPA" -p "{\"spec\":{\"minReplicas\":$target}}"
+kubectl scale statefulset "$STATEFULSET" --replicas="$target"
+
+deadline=$((SECONDS + TIMEOUT_SECONDS))
+for ordinal in "${orphans[@]}"; do
+    pod="$STATEFULSET-$ordinal"
+    echo "⏳ $pod 기동 대기..."
+    until kubectl wait --for=condition=Ready "pod/$pod" --timeout=30s >/dev/null 2>&1; do
+        if [ $SECONDS -ge $deadline ]; then
+            echo "❌ $pod 가 ${TIMEOUT_SECONDS}초 안에 준비되지 않았습니다"
+            exit 1
+        fi
+    done
+
+    # 처리가 끝난 세그먼트는 삭제되고 기록 중인 세그먼트는 비워지므로, 내용이 남은 파일이 없으면 저장 완료
+    echo "⏳ $pod 저널 저장 대기..."
+    while true; do
+        remaining=$(kubectl exec "$pod" -- sh -c \
+            "for f in $JOURNAL_DIR/objections-*.log; do [ -s \"\$f\" ] && echo \"\$f\"; done" 2>/dev/null)
+        if [ -z "$remaining" ]; then
+            echo "✅ $pod 저널 저장 완료"
+            break
+        fi
+        if [ $SECONDS -ge $deadline ]; then
+            echo "❌ $pod 저널이 ${TIMEOUT_SECONDS}초 안에 비워지지 않았습니다:"
+            echo "$remaining"
+            exit 1
+        fi
+        sleep 5
+    done
+done
+
+echo "🎉 남은 저널을 모두 저장했습니다. 이후 Pod 수는 HPA가 다시 조정합니다"
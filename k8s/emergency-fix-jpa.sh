@@ -8,7 +8,7 @@ kubectl delete pods -l app=backend --force --grace-period=0
 
 # JPA DDL을 update로 변경
 echo "📝 JPA DDL을 update로 변경..."
-kubectl patch deployment univ-backend --type='json' -p='[
+kubectl patch statefulset univ-backend --type='json' -p='[
   {
     "op": "replace",
     "path": "/spec/template/spec/containers/0/env",
@@ -4,7 +4,7 @@ echo "🔧 데이터베이스 설정 수정 중..."
 
 # JPA 설정을 validate로 변경 (기존 테이블 구조 유지)
 echo "📝 JPA DDL 설정을 validate로 변경..."
-kubectl patch deployment univ-backend -p '{
+kubectl patch statefulset univ-backend -p '{
   "spec": {
     "template": {
       "spec": {
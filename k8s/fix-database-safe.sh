@@ -4,7 +4,7 @@ echo "🔧 데이터베이스 스키마 문제 안전 해결 중..."
 
 # 백엔드 Deployment에서 JPA 검증을 비활성화하고 validate 모드로 변경
 echo "📝 JPA 설정을 안전 모드로 변경..."
-kubectl patch deployment univ-backend -p '{
+kubectl patch statefulset univ-backend -p '{
   "spec": {
     "template": {
       "spec": {
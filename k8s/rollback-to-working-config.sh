@@ -4,7 +4,7 @@ echo "🔄 기존 작동하던 설정으로 롤백 중..."
 
 # 기존 작동하던 Pod들의 설정으로 롤백
 echo "📝 환경 변수를 기존 설정으로 복원..."
-kubectl patch deployment univ-backend -p '{
+kubectl patch statefulset univ-backend -p '{
   "spec": {
     "template": {
       "spec": {
@@ -32,7 +32,7 @@ kubectl patch deployment univ-backend -p '{
 
 # JPA 관련 환경 변수 제거 (기본 설정 사용)
 echo "🗑️ 추가된 JPA 환경 변수 제거..."
-kubectl patch deployment univ-backend --type='json' -p='[
+kubectl patch statefulset univ-backend --type='json' -p='[
   {
     "op": "remove",
     "path": "/spec/template/spec/containers/0/env/3"